@@ -0,0 +1,18 @@
+package summative;
+
+/**
+ * Rules of the arena program that BattleManager does not make public, worked out from watching its matches
+ * They are assumptions, if the arena program changes them, only this class needs to change
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadArenaRules {
+	// Health the loser of every round of a fight loses
+	public static final int DAMAGE_PER_ROUND = 5;
+
+	/**
+	 * Constructor method, only holds constants
+	 */
+	private MoreheadArenaRules() {
+	}
+}
@@ -0,0 +1,120 @@
+package summative;
+
+/**
+ * The location and health of every robot in one round, stored in columns of ints
+ * The headless arena makes one snapshot a round and every robot reads it through its own MoreheadArenaView, so a round
+ * needs one copy of the data instead of an OppData array for every robot. That snapshot is never changed
+ * A robot given an OppData array keeps one snapshot of its own and refills it every turn, so its turns do not allocate
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadArenaSnapshot {
+	private int [] id;
+	private int [] avenue;
+	private int [] street;
+	private int [] health;
+
+	/**
+	 * Constructor method that copies an OppData array, used when the arena gives each robot its own array
+	 * @param data - the OppData array from the arena
+	 */
+	public MoreheadArenaSnapshot(OppData [] data) {
+		this.refill(data);
+	}
+
+	/**
+	 * Constructor method for an arena that keeps its robots in columns, the IDs are the indexes
+	 * @param avenues - the avenue of every robot, copied
+	 * @param streets - the street of every robot, copied
+	 * @param healths - the health of every robot, copied
+	 */
+	public MoreheadArenaSnapshot(int [] avenues, int [] streets, int [] healths) {
+		this.id = new int[avenues.length];
+		this.avenue = avenues.clone();
+		this.street = streets.clone();
+		this.health = healths.clone();
+
+		for(int i = 0; i < this.id.length; i++) {
+			this.id[i] = i;
+		}
+	}
+
+	/**
+	 * Copies a new OppData array into the snapshot, the columns are only made again when the number of robots changes
+	 * Only for a snapshot that belongs to one robot, a snapshot shared by the round must not change
+	 * @param data - the OppData array from the arena
+	 */
+	public void refill(OppData [] data) {
+		if(this.id == null || this.id.length != data.length) {
+			this.id = new int[data.length];
+			this.avenue = new int[data.length];
+			this.street = new int[data.length];
+			this.health = new int[data.length];
+		}
+
+		for(int i = 0; i < data.length; i++) {
+			this.id[i] = data[i].getID();
+			this.avenue[i] = data[i].getAvenue();
+			this.street[i] = data[i].getStreet();
+			this.health[i] = data[i].getHealth();
+		}
+	}
+
+	/**
+	 * Creates an OppData array for robots that need one, each call makes a new array
+	 * @return the data of every robot in the same order as the snapshot
+	 */
+	public OppData [] toOppData() {
+		OppData [] data = new OppData[this.id.length];
+
+		for(int i = 0; i < data.length; i++) {
+			data[i] = new OppData(this.id[i], this.avenue[i], this.street[i], this.health[i]);
+		}
+
+		return data;
+	}
+
+	/**
+	 * Gets the number of robots in the snapshot
+	 * @return the number of robots
+	 */
+	public int size() {
+		return this.id.length;
+	}
+
+	/**
+	 * Gets the ID of a robot
+	 * @param i - the index of the robot
+	 * @return the ID
+	 */
+	public int getID(int i) {
+		return this.id[i];
+	}
+
+	/**
+	 * Gets the avenue of a robot
+	 * @param i - the index of the robot
+	 * @return the avenue
+	 */
+	public int getAvenue(int i) {
+		return this.avenue[i];
+	}
+
+	/**
+	 * Gets the street of a robot
+	 * @param i - the index of the robot
+	 * @return the street
+	 */
+	public int getStreet(int i) {
+		return this.street[i];
+	}
+
+	/**
+	 * Gets the health of a robot
+	 * @param i - the index of the robot
+	 * @return the health
+	 */
+	public int getHealth(int i) {
+		return this.health[i];
+	}
+}
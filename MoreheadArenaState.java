@@ -0,0 +1,426 @@
+package summative;
+
+import java.util.SplittableRandom;
+
+/**
+ * A copy of the arena from one robot's point of view that can be played forward without touching the real arena
+ * Health is kept as an expected value, so a fight that could go either way changes it by the average damage
+ * Opponent stats that have not been learnt yet are filled in with a guess that adds up to the 10 stat points every robot has
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadArenaState {
+	// Guesses for stats that have not been seen yet
+	public static final int GUESS_ATTACK = 3;
+	public static final int GUESS_AGILITY = 3;
+	public static final int TOTAL_STATS = 10;
+
+	// Chance that an opponent in reach of this robot attacks it on a turn
+	public static final double THREAT_CHANCE = 0.25;
+
+	// Chance that the opponent being chased has not moved off its cell
+	public static final double STAY_CHANCE = 0.5;
+
+	// How much each point of energy is worth compared to a point of health
+	public static final double ENERGY_WEIGHT = 0.1;
+
+	// Value of a state where this robot is dead
+	public static final double DEAD = -1000;
+
+	// This robot
+	private int selfAve;
+	private int selfStr;
+	private double selfHealth;
+	private int selfEnergy;
+	private int selfAttack;
+	private int selfDefense;
+	private int selfNumMoves;
+
+	// Live opponents, not in the same order as the opponent table
+	private int numOpps;
+	private int [] oppID;
+	private int [] oppAve;
+	private int [] oppStr;
+	private double [] oppHealth;
+	private int [] oppAttack;
+	private int [] oppDefense;
+	private int [] oppAgility;
+
+	// Closest opponents, used when listing actions
+	private int [] nearest;
+	private int [] nearestDistance;
+
+	/**
+	 * Constructor method
+	 * @param capacity - the largest number of opponents
+	 */
+	public MoreheadArenaState(int capacity) {
+		this.oppID = new int[capacity];
+		this.oppAve = new int[capacity];
+		this.oppStr = new int[capacity];
+		this.oppHealth = new double[capacity];
+		this.oppAttack = new int[capacity];
+		this.oppDefense = new int[capacity];
+		this.oppAgility = new int[capacity];
+		this.nearest = new int[capacity];
+		this.nearestDistance = new int[capacity];
+	}
+
+	/**
+	 * Gets the largest number of opponents
+	 * @return the capacity of the state
+	 */
+	public int capacity() {
+		return this.oppID.length;
+	}
+
+	/**
+	 * Fills the state from the robot and its opponent table
+	 * @param robot - the robot deciding
+	 * @param opponents - the opponent table
+	 */
+	public void load(MoreheadStrategyRobot robot, MoreheadOpponentTable opponents) {
+		this.selfAve = robot.getAvenue();
+		this.selfStr = robot.getStreet();
+		this.selfHealth = robot.getHealth();
+		this.selfEnergy = robot.getEnergy();
+		this.selfAttack = robot.getAttack();
+		this.selfDefense = robot.getDefense();
+		this.selfNumMoves = robot.getNumMoves();
+		this.numOpps = 0;
+
+		for(int i = 0; i < opponents.size(); i++) {
+			int id = opponents.getID(i);
+
+			if(id == -1 || id == robot.getID() || opponents.getHealth(i) <= 0) {
+				continue;
+			}
+
+			int attack = opponents.getAttacks()[i];
+			int agility = opponents.getAgilities()[i];
+			int defense = opponents.getDefenses()[i];
+
+			// Learnt stats are only lower bounds, so unknown stats are guessed
+			if(attack <= 0) {
+				attack = GUESS_ATTACK;
+			}
+
+			if(agility <= 0) {
+				agility = GUESS_AGILITY;
+			}
+
+			if(defense <= 0) {
+				defense = Math.max(1, TOTAL_STATS - attack - agility);
+			}
+
+			this.oppID[this.numOpps] = id;
+			this.oppAve[this.numOpps] = opponents.getAvenue(i);
+			this.oppStr[this.numOpps] = opponents.getStreet(i);
+			this.oppHealth[this.numOpps] = opponents.getHealth(i);
+			this.oppAttack[this.numOpps] = attack;
+			this.oppDefense[this.numOpps] = defense;
+			this.oppAgility[this.numOpps] = agility;
+			this.numOpps++;
+		}
+	}
+
+	/**
+	 * Makes this state the same as another
+	 * @param other - the state to copy, with the same capacity
+	 */
+	public void copyFrom(MoreheadArenaState other) {
+		this.selfAve = other.selfAve;
+		this.selfStr = other.selfStr;
+		this.selfHealth = other.selfHealth;
+		this.selfEnergy = other.selfEnergy;
+		this.selfAttack = other.selfAttack;
+		this.selfDefense = other.selfDefense;
+		this.selfNumMoves = other.selfNumMoves;
+		this.numOpps = other.numOpps;
+
+		System.arraycopy(other.oppID, 0, this.oppID, 0, other.numOpps);
+		System.arraycopy(other.oppAve, 0, this.oppAve, 0, other.numOpps);
+		System.arraycopy(other.oppStr, 0, this.oppStr, 0, other.numOpps);
+		System.arraycopy(other.oppHealth, 0, this.oppHealth, 0, other.numOpps);
+		System.arraycopy(other.oppAttack, 0, this.oppAttack, 0, other.numOpps);
+		System.arraycopy(other.oppDefense, 0, this.oppDefense, 0, other.numOpps);
+		System.arraycopy(other.oppAgility, 0, this.oppAgility, 0, other.numOpps);
+	}
+
+	/**
+	 * Finds the number of moves this robot can afford, the same as MoreheadStrategyRobot.getAffordableMoves()
+	 * @return the number of moves
+	 */
+	public int getAffordableMoves() {
+		return Math.min(this.selfEnergy / BattleManager.MOVES_ENERGY_COST, this.selfNumMoves);
+	}
+
+	/**
+	 * Moves this robot, paying for the moves with energy
+	 * @param ave - the avenue to move to
+	 * @param str - the street to move to
+	 */
+	public void moveSelf(int ave, int str) {
+		int distance = Math.abs(ave - this.selfAve) + Math.abs(str - this.selfStr);
+
+		this.selfEnergy -= distance * BattleManager.MOVES_ENERGY_COST;
+		this.selfAve = ave;
+		this.selfStr = str;
+	}
+
+	/**
+	 * Fights an opponent for as many rounds as this robot's attack, using the expected damage of each round
+	 * @param opp - the index of the opponent in this state
+	 */
+	public void fight(int opp) {
+		int rounds = this.selfAttack;
+		double winChance = this.winChance(this.selfAttack, this.oppDefense[opp]);
+
+		double dealt = rounds * winChance * MoreheadArenaRules.DAMAGE_PER_ROUND;
+		double taken = rounds * (1 - winChance) * MoreheadArenaRules.DAMAGE_PER_ROUND;
+
+		this.oppHealth[opp] = Math.max(0, this.oppHealth[opp] - dealt);
+		this.selfHealth = Math.max(0, this.selfHealth - taken);
+	}
+
+	/**
+	 * Fights an opponent, rolling every round the same way as the arena
+	 * @param opp - the index of the opponent in this state
+	 * @param generator - rolls the rounds
+	 */
+	public void fightRolled(int opp, SplittableRandom generator) {
+		this.rollRounds(opp, this.selfAttack, this.oppDefense[opp], true, generator);
+	}
+
+	/**
+	 * Lets every opponent that can reach this robot attack it by chance, rolling every round the same way as the arena
+	 * @param generator - decides who attacks and rolls the rounds
+	 */
+	public void takeThreatsRolled(SplittableRandom generator) {
+		for(int j = 0; j < this.numOpps && this.selfHealth > 0; j++) {
+			if(this.oppHealth[j] <= 0 || this.distanceTo(j) > this.oppAgility[j]) {
+				continue;
+			}
+
+			if(generator.nextDouble() < THREAT_CHANCE) {
+				this.rollRounds(j, this.oppAttack[j], this.selfDefense, false, generator);
+			}
+		}
+	}
+
+	/**
+	 * Rolls the rounds of one fight, stopping when either robot has no health left
+	 * @param opp - the index of the opponent in this state
+	 * @param attack - the attack of the robot attacking, which is also the number of rounds
+	 * @param defense - the defense of the robot defending
+	 * @param selfAttacking - whether this robot is the one attacking
+	 * @param generator - rolls the rounds
+	 */
+	private void rollRounds(int opp, int attack, int defense, boolean selfAttacking, SplittableRandom generator) {
+		for(int round = 0; round < attack && this.selfHealth > 0 && this.oppHealth[opp] > 0; round++) {
+			boolean attackerWins = (attack + defense <= 0) ? generator.nextBoolean() : generator.nextInt(attack + defense) < attack;
+
+			if(attackerWins == selfAttacking) {
+				this.oppHealth[opp] = Math.max(0, this.oppHealth[opp] - MoreheadArenaRules.DAMAGE_PER_ROUND);
+			} else {
+				this.selfHealth = Math.max(0, this.selfHealth - MoreheadArenaRules.DAMAGE_PER_ROUND);
+			}
+		}
+	}
+
+	/**
+	 * Adds the expected damage from every opponent that can reach this robot and might attack it
+	 */
+	public void takeThreats() {
+		for(int j = 0; j < this.numOpps; j++) {
+			if(this.oppHealth[j] <= 0 || this.distanceTo(j) > this.oppAgility[j]) {
+				continue;
+			}
+
+			double winChance = this.winChance(this.oppAttack[j], this.selfDefense);
+			double rounds = THREAT_CHANCE * this.oppAttack[j];
+
+			this.selfHealth = Math.max(0, this.selfHealth - rounds * winChance * MoreheadArenaRules.DAMAGE_PER_ROUND);
+			this.oppHealth[j] = Math.max(0, this.oppHealth[j] - rounds * (1 - winChance) * MoreheadArenaRules.DAMAGE_PER_ROUND);
+		}
+	}
+
+	/**
+	 * Gives back the energy regained at the end of a round
+	 */
+	public void regenerate() {
+		this.selfEnergy = Math.min(MoreheadHeadlessBattleManager.MAX_ENERGY, this.selfEnergy + MoreheadHeadlessBattleManager.ENERGY_REGEN);
+	}
+
+	/**
+	 * Chance that the attacker wins one round, the same as the arena's attack vs defense roll
+	 * @param attack - the attack of the attacker
+	 * @param defense - the defense of the defender
+	 * @return the chance, one half if both stats are 0
+	 */
+	private double winChance(int attack, int defense) {
+		if(attack + defense <= 0) {
+			return 0.5;
+		}
+
+		return (double)attack / (attack + defense);
+	}
+
+	/**
+	 * Scores the state for this robot, higher is better
+	 * @return its own health and energy minus the health of its opponents, DEAD if it has no health left
+	 */
+	public double evaluate() {
+		if(this.selfHealth <= 0) {
+			return DEAD;
+		}
+
+		// Damage dealt is worth as much as damage taken
+		double oppHealth = 0;
+
+		for(int j = 0; j < this.numOpps; j++) {
+			oppHealth += this.oppHealth[j];
+		}
+
+		return this.selfHealth - oppHealth + ENERGY_WEIGHT * this.selfEnergy;
+	}
+
+	/**
+	 * Lists this robot's actions: staying, then stepping towards each of the closest live opponents
+	 * @param reachability - the reachability table of the arena
+	 * @param actionAve - filled with the avenue of each action, its length is one more than the number of opponents considered
+	 * @param actionStr - filled with the street of each action
+	 * @param actionTarget - filled with the index of the opponent fought by each action, -1 when none is reached
+	 * @return the number of actions
+	 */
+	public int listActions(MoreheadReachability reachability, int [] actionAve, int [] actionStr, int [] actionTarget) {
+		int branching = Math.min(actionAve.length - 1, this.nearest.length);
+		int moves = this.getAffordableMoves();
+
+		actionAve[0] = this.selfAve;
+		actionStr[0] = this.selfStr;
+		actionTarget[0] = -1;
+
+		// Keeping the closest live opponents, ties go to the lower index
+		int found = 0;
+
+		for(int j = 0; j < this.numOpps; j++) {
+			if(this.oppHealth[j] <= 0) {
+				continue;
+			}
+
+			int distance = this.distanceTo(j);
+			int position = found;
+
+			while(position > 0 && this.nearestDistance[position - 1] > distance) {
+				position--;
+			}
+
+			if(position >= branching) {
+				continue;
+			}
+
+			for(int k = Math.min(found, branching - 1); k > position; k--) {
+				this.nearest[k] = this.nearest[k - 1];
+				this.nearestDistance[k] = this.nearestDistance[k - 1];
+			}
+
+			this.nearest[position] = j;
+			this.nearestDistance[position] = distance;
+			found = Math.min(found + 1, branching);
+		}
+
+		for(int k = 0; k < found; k++) {
+			int j = this.nearest[k];
+			int dx = this.oppAve[j] - this.selfAve;
+			int dy = this.oppStr[j] - this.selfStr;
+			int ave = this.selfAve + reachability.getAvenueStep(dx, dy, moves);
+			int str = this.selfStr + reachability.getStreetStep(dx, dy, moves);
+
+			actionAve[k + 1] = ave;
+			actionStr[k + 1] = str;
+
+			// The opponent can only be fought if its location is reached
+			actionTarget[k + 1] = reachability.canReach(dx, dy, moves) ? j : -1;
+		}
+
+		return found + 1;
+	}
+
+	/**
+	 * Finds the distance from this robot to an opponent
+	 * @param opp - the index of the opponent in this state
+	 * @return the number of moves between them
+	 */
+	public int distanceTo(int opp) {
+		return Math.abs(this.oppAve[opp] - this.selfAve) + Math.abs(this.oppStr[opp] - this.selfStr);
+	}
+
+	/**
+	 * Gets the number of live opponents
+	 * @return the number of opponents in this state
+	 */
+	public int getNumOpps() {
+		return this.numOpps;
+	}
+
+	/**
+	 * Gets the ID of an opponent
+	 * @param opp - the index of the opponent in this state
+	 * @return the opponent's ID
+	 */
+	public int getOppID(int opp) {
+		return this.oppID[opp];
+	}
+
+	/**
+	 * Gets the avenue of an opponent
+	 * @param opp - the index of the opponent in this state
+	 * @return the opponent's avenue
+	 */
+	public int getOppAvenue(int opp) {
+		return this.oppAve[opp];
+	}
+
+	/**
+	 * Gets the street of an opponent
+	 * @param opp - the index of the opponent in this state
+	 * @return the opponent's street
+	 */
+	public int getOppStreet(int opp) {
+		return this.oppStr[opp];
+	}
+
+	/**
+	 * Gets the expected health of an opponent
+	 * @param opp - the index of the opponent in this state
+	 * @return the opponent's health
+	 */
+	public double getOppHealth(int opp) {
+		return this.oppHealth[opp];
+	}
+
+	/**
+	 * Gets the avenue of this robot
+	 * @return the avenue
+	 */
+	public int getSelfAvenue() {
+		return this.selfAve;
+	}
+
+	/**
+	 * Gets the street of this robot
+	 * @return the street
+	 */
+	public int getSelfStreet() {
+		return this.selfStr;
+	}
+
+	/**
+	 * Gets the expected health of this robot
+	 * @return the health
+	 */
+	public double getSelfHealth() {
+		return this.selfHealth;
+	}
+}
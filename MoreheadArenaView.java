@@ -0,0 +1,90 @@
+package summative;
+
+/**
+ * One robot's look at a MoreheadArenaSnapshot, with the same getters as OppData but by index and without a copy
+ * Distances are measured from the robot when they are asked for, so a robot only pays for its own row of distances
+ * Every robot keeps one view and points it at the round's snapshot each turn
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadArenaView {
+	private MoreheadArenaSnapshot snapshot;
+	private int selfID;
+	private int selfAve;
+	private int selfStr;
+
+	/**
+	 * Points the view at the snapshot of a round
+	 * @param snapshot - the snapshot of the round
+	 * @param selfID - the ID of the robot
+	 * @param selfAve - the avenue of the robot
+	 * @param selfStr - the street of the robot
+	 */
+	public void reset(MoreheadArenaSnapshot snapshot, int selfID, int selfAve, int selfStr) {
+		this.snapshot = snapshot;
+		this.selfID = selfID;
+		this.selfAve = selfAve;
+		this.selfStr = selfStr;
+	}
+
+	/**
+	 * Gets the number of robots in the round
+	 * @return the number of robots, including this one
+	 */
+	public int size() {
+		return this.snapshot.size();
+	}
+
+	/**
+	 * Gets the ID of a robot
+	 * @param i - the index of the robot
+	 * @return the ID
+	 */
+	public int getID(int i) {
+		return this.snapshot.getID(i);
+	}
+
+	/**
+	 * Gets the avenue of a robot
+	 * @param i - the index of the robot
+	 * @return the avenue
+	 */
+	public int getAvenue(int i) {
+		return this.snapshot.getAvenue(i);
+	}
+
+	/**
+	 * Gets the street of a robot
+	 * @param i - the index of the robot
+	 * @return the street
+	 */
+	public int getStreet(int i) {
+		return this.snapshot.getStreet(i);
+	}
+
+	/**
+	 * Gets the health of a robot
+	 * @param i - the index of the robot
+	 * @return the health
+	 */
+	public int getHealth(int i) {
+		return this.snapshot.getHealth(i);
+	}
+
+	/**
+	 * Gets the number of moves from the robot that owns this view to another robot
+	 * @param i - the index of the other robot
+	 * @return the distance
+	 */
+	public int getDistance(int i) {
+		return Math.abs(this.snapshot.getStreet(i) - this.selfStr) + Math.abs(this.snapshot.getAvenue(i) - this.selfAve);
+	}
+
+	/**
+	 * Gets the ID of the robot that owns this view
+	 * @return the ID
+	 */
+	public int getSelfID() {
+		return this.selfID;
+	}
+}
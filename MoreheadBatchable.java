@@ -0,0 +1,17 @@
+package summative;
+
+/**
+ * A robot that can take its turn on the snapshot shared by every robot instead of its own OppData array
+ * MoreheadTurnBatch gives these robots the same MoreheadArenaSnapshot, possibly from different threads
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public interface MoreheadBatchable {
+	/**
+	 * Decides what the robot does this turn
+	 * @param energy - the updated energy of this robot
+	 * @param snapshot - the snapshot of the round, shared with every robot
+	 * @return the request of this robot
+	 */
+	TurnRequest takeTurn(int energy, MoreheadArenaSnapshot snapshot);
+}
@@ -0,0 +1,17 @@
+package summative;
+
+/**
+ * Decides where to move and who to fight in one step, instead of choosing a target with a scorer and then walking to it
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public interface MoreheadDecisionEngine {
+	/**
+	 * Chooses this turn's move and fight
+	 * @param robot - the robot deciding
+	 * @param opponents - the opponent table
+	 * @param request - filled with the requested avenue, street and ID of the opponent to fight (-1 for none)
+	 * @return whether a decision was made, false if the engine has nothing to go on and the strategy should decide itself
+	 */
+	boolean decide(MoreheadStrategyRobot robot, MoreheadOpponentTable opponents, int [] request);
+}
@@ -0,0 +1,16 @@
+package summative;
+
+/**
+ * A robot that can be told which entrant sits in every seat of a match
+ * Runners that move entrants between seats give every robot these keys, so that what it remembers about an opponent
+ * follows the entrant and not the seat
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public interface MoreheadEntrantAware {
+	/**
+	 * Tells the robot the key of the entrant in every seat
+	 * @param keys - the key of every entrant indexed by ID, shared by every robot in the match and never changed
+	 */
+	void setEntrantKeys(String [] keys);
+}
@@ -0,0 +1,141 @@
+package summative;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Leveled event log that never writes to the console on the thread that logs
+ * Events go onto a lock-free queue and a background thread formats and prints them, so robots never wait on each other
+ * for System.out. Set the level with -Dmorehead.log=off, error, warn, info (the default), debug or trace
+ * The level is read once, so a disabled level costs one comparison that the JIT removes. Callers that build arguments
+ * every turn should check isEnabled first so that nothing is boxed when the level is off
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadEventLog {
+	public static final int OFF = 0;
+	public static final int ERROR = 1;
+	public static final int WARN = 2;
+	public static final int INFO = 3;
+	public static final int DEBUG = 4;
+	public static final int TRACE = 5;
+	public static final String [] LEVEL_NAMES = {"OFF", "ERROR", "WARN", "INFO", "DEBUG", "TRACE"};
+
+	private static final int LEVEL = parseLevel(System.getProperty("morehead.log", "info"));
+
+	// Time the drain thread sleeps when the queue is empty
+	private static final long DRAIN_INTERVAL_NANOS = 10000000;
+
+	private static final Queue<MoreheadLogEvent> QUEUE = new ConcurrentLinkedQueue<MoreheadLogEvent>();
+	private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+	// Only stops the drain thread and the shutdown hook from printing at the same time, loggers never take it
+	private static final Object PRINT_LOCK = new Object();
+
+	/**
+	 * Checks whether events of a level are written
+	 * @param level - the level, for example DEBUG
+	 * @return whether the level is at or below the level set with -Dmorehead.log
+	 */
+	public static boolean isEnabled(int level) {
+		return level <= LEVEL;
+	}
+
+	/**
+	 * Logs an event
+	 * @param level - the level of the event
+	 * @param source - what the event came from, usually a class name
+	 * @param message - the message
+	 */
+	public static void log(int level, String source, String message) {
+		if(level <= LEVEL) {
+			enqueue(new MoreheadLogEvent(level, source, message, null));
+		}
+	}
+
+	/**
+	 * Logs an event, the message is only formatted on the drain thread
+	 * @param level - the level of the event
+	 * @param source - what the event came from, usually a class name
+	 * @param format - a String.format format
+	 * @param args - the arguments of the format, should not be changed after they are logged
+	 */
+	public static void log(int level, String source, String format, Object... args) {
+		if(level <= LEVEL) {
+			enqueue(new MoreheadLogEvent(level, source, format, args));
+		}
+	}
+
+	/**
+	 * Adds an event to the queue and starts the drain thread the first time
+	 * @param event - the event
+	 */
+	private static void enqueue(MoreheadLogEvent event) {
+		QUEUE.offer(event);
+
+		if(!STARTED.get() && STARTED.compareAndSet(false, true)) {
+			Thread drainer = new Thread(MoreheadEventLog::drainForever, "morehead-log");
+			drainer.setDaemon(true);
+			drainer.start();
+
+			// Events still in the queue are printed when the program ends
+			Runtime.getRuntime().addShutdownHook(new Thread(MoreheadEventLog::flush, "morehead-log-flush"));
+		}
+	}
+
+	/**
+	 * Prints events until the program ends
+	 */
+	private static void drainForever() {
+		while(true) {
+			if(!drain()) {
+				LockSupport.parkNanos(DRAIN_INTERVAL_NANOS);
+			}
+		}
+	}
+
+	/**
+	 * Prints every event that has been logged so far, used before a program prints its own results
+	 */
+	public static void flush() {
+		drain();
+	}
+
+	/**
+	 * Prints the events in the queue
+	 * @return whether there were any
+	 */
+	private static boolean drain() {
+		synchronized(PRINT_LOCK) {
+			boolean printed = false;
+			MoreheadLogEvent event;
+
+			while((event = QUEUE.poll()) != null) {
+				PrintStream out = (event.getLevel() <= WARN) ? System.err : System.out;
+				out.println(event);
+				printed = true;
+			}
+
+			return printed;
+		}
+	}
+
+	/**
+	 * Reads a level name
+	 * @param name - the name, in any case
+	 * @return the level, INFO if the name is not known
+	 */
+	public static int parseLevel(String name) {
+		for(int level = 0; level < LEVEL_NAMES.length; level++) {
+			if(LEVEL_NAMES[level].equals(name.trim().toUpperCase(Locale.ROOT))) {
+				return level;
+			}
+		}
+
+		return INFO;
+	}
+}
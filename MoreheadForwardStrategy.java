@@ -0,0 +1,64 @@
+package summative;
+
+import becker.robots.Direction;
+
+/**
+ * Strategy of the V0 moving dummy robots, steps one location in the direction it faces every turn
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadForwardStrategy implements MoreheadStrategy {
+	private String name;
+
+	/**
+	 * Constructor method
+	 * @param name - the name of the strategy
+	 */
+	public MoreheadForwardStrategy(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Steps forward, fighting the last opponent found on the location it steps onto
+	 */
+	public int takeTurn(MoreheadStrategyRobot robot, MoreheadArenaView view, int [] request) {
+		int fightingID = -1;
+
+		int aveRequest = robot.getAvenue(), strRequest = robot.getStreet();
+
+		if(robot.getDirection() == Direction.NORTH) {
+			strRequest--;
+		} else if(robot.getDirection() == Direction.SOUTH) {
+			strRequest++;
+		} else if(robot.getDirection() == Direction.WEST) {
+			aveRequest--;
+		} else {
+			aveRequest++;
+		}
+
+		for(int i = 0; i < view.size(); i++) {
+			if(view.getStreet(i) == strRequest && view.getAvenue(i) == aveRequest) {
+				if(view.getID(i) != robot.getID()) {
+					fightingID = view.getID(i);
+				}
+			}
+		}
+
+		request[0] = aveRequest;
+		request[1] = strRequest;
+		request[2] = fightingID;
+
+		return MoreheadTurnStats.ATTACK;
+	}
+
+	/**
+	 * Dummy robots do not learn from battles
+	 */
+	public void battleResult(MoreheadStrategyRobot robot, int healthLost, int oppID, int oppHealthLost, int numRoundsFought) {
+		// Stub
+	}
+}
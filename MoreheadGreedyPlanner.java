@@ -0,0 +1,42 @@
+package summative;
+
+/**
+ * Moves straight towards the target, along the avenue first and then along the street
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadGreedyPlanner implements MoreheadMovementPlanner {
+	private boolean limitedByEnergy;
+	private MoreheadReachability reachability;
+
+	/**
+	 * Constructor method
+	 * @param limitedByEnergy - whether the robot only makes the moves its energy pays for (V4 to V6), or always uses its numMoves attribute (V1 to V3)
+	 */
+	public MoreheadGreedyPlanner(boolean limitedByEnergy) {
+		this.limitedByEnergy = limitedByEnergy;
+		this.reachability = MoreheadReachability.forArena();
+	}
+
+	/**
+	 * Determines the closest the robot can get to an opponents location
+	 * @param robot - the robot moving
+	 * @param opponents - not used
+	 * @param opponentAve - the avenue of the opponent
+	 * @param opponentStr - the street of the opponent
+	 * @param request - filled with a location closest to the opponent location that can be reached
+	 */
+	public void plan(MoreheadStrategyRobot robot, MoreheadOpponentTable opponents, int opponentAve, int opponentStr, int [] request) {
+		// Current location
+		int currentAve = robot.getAvenue();
+		int currentStr = robot.getStreet();
+
+		int moves = (this.limitedByEnergy) ? robot.getAffordableMoves() : robot.getNumMoves();
+		int dx = opponentAve - currentAve;
+		int dy = opponentStr - currentStr;
+
+		// Moves along the avenue first and then the street, looked up instead of worked out every turn
+		request[0] = currentAve + this.reachability.getAvenueStep(dx, dy, moves);
+		request[1] = currentStr + this.reachability.getStreetStep(dx, dy, moves);
+	}
+}
@@ -0,0 +1,330 @@
+package summative;
+
+import becker.robots.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs a full match without the arena program so robots can be evaluated offline
+ * Follows the same contract as BattleManager (takeTurn, goToLocation, battleResult) but never opens a window
+ * The robots still move inside a Becker City so that getAvenue() and getStreet() work as they do in the arena
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadHeadlessBattleManager {
+	// Arena rules, kept the same as the arena program
+	public static final int START_HEALTH = 100;
+	public static final int MAX_ENERGY = 100;
+	public static final int ENERGY_REGEN = 10;
+	public static final int MAX_ROUNDS = 500;
+
+	// Fast enough that goToLocation never waits for an animation
+	public static final double HEADLESS_SPEED = 1000000;
+
+	private MoreheadRobotFactory [] factories;
+	private long seed;
+	private SplittableRandom generator;
+	private MoreheadReplayWriter replay;
+	private MoreheadTurnBatch batch;
+
+	private FighterRobot [] robots;
+	private int [] health;
+	private int [] energy;
+
+	/**
+	 * Constructor method
+	 * @param factories - creates the robot for each ID, the length of this array is the number of players
+	 * @param seed - seed for starting positions and fight outcomes
+	 */
+	public MoreheadHeadlessBattleManager(MoreheadRobotFactory [] factories, long seed) {
+		this.factories = factories;
+		this.seed = seed;
+		this.generator = new SplittableRandom(seed);
+		this.batch = new MoreheadTurnBatch(null);
+	}
+
+	/**
+	 * Lets the robots of a round take their turns at the same time
+	 * Matches stay repeatable, each robot only uses its own random numbers and requests are applied in ID order
+	 * @param pool - the pool robots take their turns on, null (the default) to take them one after another
+	 */
+	public void setTurnPool(ForkJoinPool pool) {
+		this.batch = new MoreheadTurnBatch(pool);
+	}
+
+	/**
+	 * Records every event of the next match to a replay
+	 * @param replay - the replay writer, null to stop recording
+	 */
+	public void setReplayWriter(MoreheadReplayWriter replay) {
+		this.replay = replay;
+	}
+
+	/**
+	 * Draws the starting location, direction and random number generator of every seat, in the order every match uses
+	 * Every seat gets its own generator split from the match seed, whether or not its robot makes random choices, so a match can be repeated seat by seat
+	 * @param generator - the generator of the match, created from its seed
+	 * @param avenues - filled with the starting avenue of every seat
+	 * @param streets - filled with the starting street of every seat
+	 * @param directions - filled with the starting direction of every seat
+	 * @param randoms - filled with the generator of every seat
+	 */
+	static void drawSeats(SplittableRandom generator, int [] avenues, int [] streets, Direction [] directions, SplittableRandom [] randoms) {
+		for(int i = 0; i < avenues.length; i++) {
+			avenues[i] = generator.nextInt(BattleManager.WIDTH);
+			streets[i] = generator.nextInt(BattleManager.HEIGHT);
+			directions[i] = MoreheadReplayWriter.DIRECTIONS[generator.nextInt(MoreheadReplayWriter.DIRECTIONS.length)];
+			randoms[i] = generator.split();
+		}
+	}
+
+	/**
+	 * Plays a full match until one robot is left or the maximum number of rounds is reached
+	 * @return the result of the match
+	 */
+	public MoreheadMatchResult playMatch() {
+		int numPlayers = this.factories.length;
+
+		// Never show the city, every match gets its own city so matches do not share state
+		City.showFrame(false);
+		City city = new City();
+
+		this.robots = new FighterRobot[numPlayers];
+		this.health = new int[numPlayers];
+		this.energy = new int[numPlayers];
+		int [] avenues = new int[numPlayers];
+		int [] streets = new int[numPlayers];
+		Direction [] directions = new Direction[numPlayers];
+		SplittableRandom [] randoms = new SplittableRandom[numPlayers];
+		drawSeats(this.generator, avenues, streets, directions, randoms);
+
+		// Creating every robot at its random location
+		for(int i = 0; i < numPlayers; i++) {
+			this.robots[i] = this.factories[i].create(city, avenues[i], streets[i], directions[i], i, START_HEALTH);
+			this.robots[i].setSpeed(HEADLESS_SPEED);
+
+			if(this.robots[i] instanceof MoreheadSeedable) {
+				((MoreheadSeedable)this.robots[i]).setRandom(randoms[i]);
+			}
+
+			this.health[i] = START_HEALTH;
+			this.energy[i] = MAX_ENERGY;
+		}
+
+		// Entrants are known by their class, which fixes their stats, so robots can tell them apart in any seat
+		String [] entrantKeys = new String[numPlayers];
+
+		for(int i = 0; i < numPlayers; i++) {
+			entrantKeys[i] = this.robots[i].getClass().getName();
+		}
+
+		for(int i = 0; i < numPlayers; i++) {
+			if(this.robots[i] instanceof MoreheadEntrantAware) {
+				((MoreheadEntrantAware)this.robots[i]).setEntrantKeys(entrantKeys);
+			}
+		}
+
+		if(this.replay != null) {
+			this.replay.matchStart(numPlayers, this.seed, directions);
+		}
+
+		int round = 0;
+
+		// Keep playing while more than one robot is alive
+		while(round < MAX_ROUNDS && this.countAlive() > 1) {
+			this.playRound(round);
+			round++;
+		}
+
+		int winnerID = this.findWinner();
+
+		if(this.replay != null) {
+			this.replay.matchEnd(winnerID, round);
+		}
+
+		return new MoreheadMatchResult(winnerID, round, this.health.clone());
+	}
+
+	/**
+	 * Plays a single round: every live robot takes its turn on the same snapshot, then moves, then fights
+	 * @param round - the round number
+	 */
+	private void playRound(int round) {
+		int numPlayers = this.robots.length;
+		MoreheadArenaSnapshot snapshot = this.snapshot();
+		TurnRequest [] requests = new TurnRequest[numPlayers];
+		boolean [] alive = new boolean[numPlayers];
+
+		if(this.replay != null) {
+			this.replay.round(round, snapshot, this.energy);
+		}
+
+		for(int i = 0; i < numPlayers; i++) {
+			alive[i] = this.health[i] > 0;
+		}
+
+		// Every robot decides on the same snapshot, the distances between robots are only worked out once
+		this.batch.takeTurns(this.robots, this.energy, alive, snapshot, requests);
+
+		if(this.replay != null) {
+			for(int i = 0; i < numPlayers; i++) {
+				if(requests[i] != null) {
+					this.replay.request(i, requests[i].getEndAvenue(), requests[i].getEndStreet(), requests[i].getFightID(), requests[i].getNumRounds());
+				}
+			}
+		}
+
+		// Moving every robot that made a valid request
+		for(int i = 0; i < numPlayers; i++) {
+			if(requests[i] != null) {
+				this.applyMove(i, requests[i]);
+			}
+		}
+
+		// Fights are resolved in ID order after everyone has moved
+		for(int i = 0; i < numPlayers; i++) {
+			if(requests[i] != null && this.health[i] > 0) {
+				this.applyFight(i, requests[i]);
+			}
+		}
+
+		// Regenerating energy
+		for(int i = 0; i < numPlayers; i++) {
+			this.energy[i] = Math.min(MAX_ENERGY, this.energy[i] + ENERGY_REGEN);
+		}
+	}
+
+	/**
+	 * Builds the snapshot shared by every robot, indexed by ID
+	 * @return the location and health of every robot
+	 */
+	private MoreheadArenaSnapshot snapshot() {
+		int [] avenues = new int[this.robots.length];
+		int [] streets = new int[this.robots.length];
+		int [] healths = new int[this.robots.length];
+
+		for(int i = 0; i < this.robots.length; i++) {
+			avenues[i] = this.robots[i].getAvenue();
+			streets[i] = this.robots[i].getStreet();
+			healths[i] = Math.max(this.health[i], 0);
+		}
+
+		return new MoreheadArenaSnapshot(avenues, streets, healths);
+	}
+
+	/**
+	 * Moves a robot if its request is inside the arena and within its moves and energy
+	 * @param id - the ID of the robot
+	 * @param request - the robot's request
+	 */
+	private void applyMove(int id, TurnRequest request) {
+		FighterRobot robot = this.robots[id];
+		int a = request.getEndAvenue();
+		int s = request.getEndStreet();
+
+		// Requests outside of the arena are ignored
+		if(a < 0 || a >= BattleManager.WIDTH || s < 0 || s >= BattleManager.HEIGHT) {
+			return;
+		}
+
+		int distance = Math.abs(a - robot.getAvenue()) + Math.abs(s - robot.getStreet());
+
+		// Requests that are too far away are ignored
+		if(distance > robot.getNumMoves() || distance * BattleManager.MOVES_ENERGY_COST > this.energy[id]) {
+			return;
+		}
+
+		robot.goToLocation(a, s);
+
+		// The robot's real location is used in case goToLocation did not reach the request
+		distance = Math.abs(a - robot.getAvenue()) + Math.abs(s - robot.getStreet());
+		this.energy[id] -= distance * BattleManager.MOVES_ENERGY_COST;
+	}
+
+	/**
+	 * Resolves a fight if the attacker is on the same location as a live opponent
+	 * @param id - the ID of the attacker
+	 * @param request - the attacker's request
+	 */
+	private void applyFight(int id, TurnRequest request) {
+		int oppID = request.getFightID();
+
+		// Robots cannot fight nobody, themselves, or dead robots
+		if(oppID < 0 || oppID >= this.robots.length || oppID == id || this.health[oppID] <= 0) {
+			return;
+		}
+
+		FighterRobot attacker = this.robots[id];
+		FighterRobot defender = this.robots[oppID];
+
+		// The opponent has to be on the same location
+		if(attacker.getAvenue() != defender.getAvenue() || attacker.getStreet() != defender.getStreet()) {
+			return;
+		}
+
+		int numRounds = Math.max(0, Math.min(request.getNumRounds(), attacker.getAttack()));
+		int attackerLost = 0;
+		int defenderLost = 0;
+		int roundsFought = 0;
+
+		// Each round is won by the attacker based on attack vs defense
+		while(roundsFought < numRounds && this.health[id] - attackerLost > 0 && this.health[oppID] - defenderLost > 0) {
+			if(this.generator.nextInt(attacker.getAttack() + defender.getDefense()) < attacker.getAttack()) {
+				defenderLost += MoreheadArenaRules.DAMAGE_PER_ROUND;
+			} else {
+				attackerLost += MoreheadArenaRules.DAMAGE_PER_ROUND;
+			}
+			roundsFought++;
+		}
+
+		this.health[id] -= attackerLost;
+		this.health[oppID] -= defenderLost;
+
+		// Both robots are told about the fight
+		attacker.battleResult(attackerLost, oppID, defenderLost, roundsFought);
+		defender.battleResult(defenderLost, id, attackerLost, roundsFought);
+
+		if(this.replay != null) {
+			this.replay.battle(id, attackerLost, oppID, defenderLost, roundsFought);
+			this.replay.battle(oppID, defenderLost, id, attackerLost, roundsFought);
+		}
+	}
+
+	/**
+	 * Counts the robots that are still alive
+	 * @return the number of robots with health above 0
+	 */
+	private int countAlive() {
+		int alive = 0;
+
+		for(int i = 0; i < this.health.length; i++) {
+			if(this.health[i] > 0) {
+				alive++;
+			}
+		}
+
+		return alive;
+	}
+
+	/**
+	 * Finds the winner, the robot with the most health if there is a single one
+	 * @return the ID of the winner, -1 for a draw
+	 */
+	private int findWinner() {
+		int winnerID = -1;
+		int best = 0;
+
+		for(int i = 0; i < this.health.length; i++) {
+			// Ties with the best health mean there is no winner
+			if(this.health[i] > best) {
+				best = this.health[i];
+				winnerID = i;
+			} else if(this.health[i] == best && best > 0) {
+				winnerID = -1;
+			}
+		}
+
+		return winnerID;
+	}
+}
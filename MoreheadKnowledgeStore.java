@@ -0,0 +1,380 @@
+package summative;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Remembers what MoreheadStatEstimator learnt about each opponent from one match to the next
+ * Knowledge is kept by entrant key. The headless arena gives every robot the class of the entrant in each seat, and the
+ * class fixes the stats being learnt, so runners that move entrants between seats never mix two entrants in one record
+ * The arena program only gives IDs, so there opponents are kept by seatKey, which is only right when every match puts
+ * the same entrant in the same seat
+ * The file is memory mapped and only ever appended to, the newest record of a key is the one used
+ * The file is only mapped and read the first time a robot asks for or saves knowledge, so creating robots never touches the disk
+ * After that records are written by a background thread, so robots never wait on the disk
+ * A file with many old records is rewritten with the newest record of each key when it is read
+ *
+ * File format: the int MAGIC, the int number of records, then every record as the long hash of the key followed by the
+ * log probability of each of the estimator's allocations as floats. The file keeps its size when it is rewritten, since
+ * Windows does not let a mapped file be cut down, so the number of records says where the records end
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadKnowledgeStore {
+	public static final int MAGIC = 0x4D4B5332;
+
+	// A robot saves what it knows this often, and when it dies
+	public static final int SAVE_INTERVAL = 50;
+
+	private static final int HEADER_BYTES = 8;
+	private static final int KEY_BYTES = 8;
+	private static final int RECORD_BYTES = KEY_BYTES + 4 * MoreheadStatEstimator.NUM_ALLOCATIONS;
+
+	// Room for this many records is mapped at first, the mapping doubles when it is full
+	private static final int INITIAL_RECORDS = 1024;
+
+	// The file is compacted when it has more than this many records for every key
+	private static final int COMPACT_RATIO = 16;
+
+	// Time the writer sleeps when there is nothing to write
+	private static final long WRITE_INTERVAL_NANOS = 50000000;
+
+	// Set with -Dmorehead.knowledge=path to make every V6 remember its opponents
+	private static final String KNOWLEDGE_PATH = System.getProperty("morehead.knowledge");
+
+	// Every file is only opened once
+	private static final Map<Path, MoreheadKnowledgeStore> OPENED = new ConcurrentHashMap<Path, MoreheadKnowledgeStore>();
+
+	private Path path;
+	private FileChannel channel;
+	private MappedByteBuffer buffer;
+	private int numRecords;
+
+	// Newest log probabilities of every key hash, read by robots and written by any thread
+	private Map<Long, float []> latest;
+
+	// Records waiting to be written, each with the hash of its key
+	private Queue<Map.Entry<Long, float []>> pending;
+	private AtomicBoolean started;
+
+	// Set once the file has been read, or could not be
+	private volatile boolean loaded;
+	private boolean unusable;
+
+	/**
+	 * Constructor method, the file is not opened until the store is first used
+	 * @param path - the file, created if it does not exist
+	 */
+	private MoreheadKnowledgeStore(Path path) {
+		this.path = path;
+		this.latest = new ConcurrentHashMap<Long, float []>();
+		this.pending = new ConcurrentLinkedQueue<Map.Entry<Long, float []>>();
+		this.started = new AtomicBoolean();
+	}
+
+	/**
+	 * Reads the file the first time the store is used
+	 */
+	private void ensureLoaded() {
+		if(!this.loaded) {
+			this.load();
+		}
+	}
+
+	/**
+	 * Maps the file and reads every record in it, a file that cannot be used leaves the store working in memory only
+	 */
+	private synchronized void load() {
+		if(this.loaded) {
+			return;
+		}
+
+		try {
+			this.read();
+		} catch(IOException e) {
+			// Robots still work without the file, it is only reported once
+			this.unusable = true;
+			this.latest.clear();
+			MoreheadEventLog.log(MoreheadEventLog.WARN, "MoreheadKnowledgeStore", "Could not open knowledge store %s: %s", this.path, e);
+
+			try {
+				if(this.channel != null) {
+					this.channel.close();
+				}
+			} catch(IOException ignored) {
+				// The store is not used again
+			}
+		}
+
+		this.loaded = true;
+	}
+
+	/**
+	 * Maps the file and reads every record in it
+	 * @throws IOException if the file cannot be opened or is not a knowledge store
+	 */
+	private void read() throws IOException {
+		this.channel = FileChannel.open(this.path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		long size = this.channel.size();
+
+		if(size == 0) {
+			this.map(INITIAL_RECORDS);
+			this.buffer.putInt(0, MAGIC);
+			this.buffer.putInt(4, 0);
+			return;
+		}
+
+		if(size < HEADER_BYTES) {
+			throw new IOException(this.path + " is not a knowledge store");
+		}
+
+		this.map((int)Math.max(INITIAL_RECORDS, (size - HEADER_BYTES) / RECORD_BYTES));
+
+		if(this.buffer.getInt(0) != MAGIC) {
+			throw new IOException(this.path + " is not a knowledge store of this version");
+		}
+
+		// A record that was cut off when it was written is left out, and written over by the next one
+		this.numRecords = (int)Math.min(this.buffer.getInt(4), (size - HEADER_BYTES) / RECORD_BYTES);
+
+		for(int r = 0; r < this.numRecords; r++) {
+			int offset = HEADER_BYTES + r * RECORD_BYTES;
+			float [] logProbabilities = new float[MoreheadStatEstimator.NUM_ALLOCATIONS];
+
+			for(int k = 0; k < logProbabilities.length; k++) {
+				logProbabilities[k] = this.buffer.getFloat(offset + KEY_BYTES + 4 * k);
+			}
+
+			this.latest.put(this.buffer.getLong(offset), logProbabilities);
+		}
+
+		if(this.numRecords > INITIAL_RECORDS && this.numRecords > COMPACT_RATIO * this.latest.size()) {
+			this.compact();
+		}
+	}
+
+	/**
+	 * Writes the newest record of every key from the start of the file, the records after them are written over later
+	 * Every record is already in memory, and the newest records take less room than the old ones, so they are written in place
+	 */
+	private void compact() {
+		this.numRecords = 0;
+
+		for(Map.Entry<Long, float []> entry : this.latest.entrySet()) {
+			this.put(HEADER_BYTES + this.numRecords * RECORD_BYTES, entry.getKey(), entry.getValue());
+			this.numRecords++;
+		}
+
+		this.buffer.putInt(4, this.numRecords);
+		this.buffer.force();
+	}
+
+	/**
+	 * Puts one record in the mapped file
+	 * @param offset - the position of the record
+	 * @param key - the hash of the key
+	 * @param logProbabilities - the log probability of each of the estimator's allocations
+	 */
+	private void put(int offset, long key, float [] logProbabilities) {
+		this.buffer.putLong(offset, key);
+
+		for(int k = 0; k < logProbabilities.length; k++) {
+			this.buffer.putFloat(offset + KEY_BYTES + 4 * k, logProbabilities[k]);
+		}
+	}
+
+	/**
+	 * Gets the store of a file, every file only has one store
+	 * The file is read the first time the store is used, a file that cannot be used is reported then
+	 * @param path - the file, created if it does not exist
+	 * @return the store
+	 */
+	public static synchronized MoreheadKnowledgeStore open(Path path) {
+		Path key = path.toAbsolutePath().normalize();
+		MoreheadKnowledgeStore store = OPENED.get(key);
+
+		if(store == null) {
+			store = new MoreheadKnowledgeStore(key);
+			OPENED.put(key, store);
+
+			// Records still waiting are written when the program ends
+			MoreheadKnowledgeStore opened = store;
+			Runtime.getRuntime().addShutdownHook(new Thread(opened::flush, "morehead-knowledge-flush"));
+		}
+
+		return store;
+	}
+
+	/**
+	 * Gets the store V6 uses, from -Dmorehead.knowledge
+	 * @return the store, null if there is no file
+	 */
+	public static MoreheadKnowledgeStore forV6() {
+		if(KNOWLEDGE_PATH == null) {
+			return null;
+		}
+
+		return open(Paths.get(KNOWLEDGE_PATH));
+	}
+
+	/**
+	 * Gets the key of a seat, for arenas that do not say which entrant is in it
+	 * @param id - the ID of the seat
+	 * @return the key
+	 */
+	public static String seatKey(int id) {
+		return "seat " + id;
+	}
+
+	/**
+	 * Gets the newest log probabilities of an opponent
+	 * @param key - the key of the opponent's entrant, or its seatKey
+	 * @param logProbabilities - filled with the log probability of each of the estimator's allocations
+	 * @return whether anything is known about the opponent
+	 */
+	public boolean getPrior(String key, double [] logProbabilities) {
+		this.ensureLoaded();
+		float [] known = this.latest.get(hash(key));
+
+		if(known == null) {
+			return false;
+		}
+
+		for(int k = 0; k < known.length; k++) {
+			logProbabilities[k] = known[k];
+		}
+
+		return true;
+	}
+
+	/**
+	 * Remembers the log probabilities of an opponent, they are used straight away and written to the file later
+	 * @param key - the key of the opponent's entrant, or its seatKey
+	 * @param logProbabilities - the log probability of each of the estimator's allocations, copied
+	 */
+	public void record(String key, double [] logProbabilities) {
+		this.ensureLoaded();
+		long keyHash = hash(key);
+		float [] known = new float[MoreheadStatEstimator.NUM_ALLOCATIONS];
+
+		for(int k = 0; k < known.length; k++) {
+			known[k] = (float)logProbabilities[k];
+		}
+
+		this.latest.put(keyHash, known);
+
+		// Without a file, knowledge only lasts until the program ends
+		if(this.unusable) {
+			return;
+		}
+
+		this.pending.offer(new AbstractMap.SimpleImmutableEntry<Long, float []>(keyHash, known));
+
+		if(!this.started.get() && this.started.compareAndSet(false, true)) {
+			Thread writer = new Thread(this::writeForever, "morehead-knowledge");
+			writer.setDaemon(true);
+			writer.start();
+		}
+	}
+
+	/**
+	 * Writes records until the program ends
+	 */
+	private void writeForever() {
+		while(true) {
+			if(!this.write()) {
+				LockSupport.parkNanos(WRITE_INTERVAL_NANOS);
+			}
+		}
+	}
+
+	/**
+	 * Writes every record waiting and makes sure the file is on the disk
+	 */
+	public synchronized void flush() {
+		// A store that was never used has nothing to write
+		if(!this.loaded || this.unusable) {
+			return;
+		}
+
+		this.write();
+		this.buffer.force();
+	}
+
+	/**
+	 * Appends the records waiting to the file
+	 * @return whether there were any
+	 */
+	private synchronized boolean write() {
+		boolean wrote = false;
+		Map.Entry<Long, float []> record;
+
+		try {
+			while((record = this.pending.poll()) != null) {
+				int offset = HEADER_BYTES + this.numRecords * RECORD_BYTES;
+
+				if(offset + RECORD_BYTES > this.buffer.capacity()) {
+					this.map(2 * this.numRecords);
+				}
+
+				this.put(offset, record.getKey(), record.getValue());
+
+				// The count is only raised once the whole record is in place
+				this.numRecords++;
+				this.buffer.putInt(4, this.numRecords);
+				wrote = true;
+			}
+		} catch(IOException e) {
+			MoreheadEventLog.log(MoreheadEventLog.ERROR, "MoreheadKnowledgeStore", "Could not grow knowledge store %s: %s", this.path, e);
+			this.pending.clear();
+		}
+
+		return wrote;
+	}
+
+	/**
+	 * Maps enough of the file for a number of records, the file grows to that size
+	 * @param records - the number of records there is room for
+	 * @throws IOException if the file cannot be mapped
+	 */
+	private void map(int records) throws IOException {
+		this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long)records * RECORD_BYTES);
+	}
+
+	/**
+	 * Hashes a key to the 64 bits kept in the file, with FNV-1a
+	 * @param key - the key
+	 * @return the hash
+	 */
+	private static long hash(String key) {
+		long hash = 0xCBF29CE484222325L;
+
+		for(int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Gets the number of records in the file, including the ones that are not the newest for their key
+	 * @return the number of records written
+	 */
+	public synchronized int getNumRecords() {
+		this.ensureLoaded();
+		return this.numRecords;
+	}
+}
@@ -0,0 +1,55 @@
+package summative;
+
+/**
+ * One event of MoreheadEventLog, created on the thread that logs and formatted later on the drain thread
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadLogEvent {
+	private long timeMillis;
+	private int level;
+	private String source;
+	private String thread;
+	private String format;
+	private Object [] args;
+
+	/**
+	 * Constructor method
+	 * @param level - the level of the event
+	 * @param source - what the event came from
+	 * @param format - the message, or a String.format format if there are arguments
+	 * @param args - the arguments of the format, null for a plain message
+	 */
+	public MoreheadLogEvent(int level, String source, String format, Object [] args) {
+		this.timeMillis = System.currentTimeMillis();
+		this.level = level;
+		this.source = source;
+		this.thread = Thread.currentThread().getName();
+		this.format = format;
+		this.args = args;
+	}
+
+	/**
+	 * Gets the level of the event
+	 * @return the level, for example MoreheadEventLog.DEBUG
+	 */
+	public int getLevel() {
+		return this.level;
+	}
+
+	/**
+	 * Gets the message, formatting it if it has arguments
+	 * @return the message
+	 */
+	public String getMessage() {
+		return (this.args == null) ? this.format : String.format(this.format, this.args);
+	}
+
+	/**
+	 * Creates the line that is printed: time, level, thread, source and message
+	 * @return the line
+	 */
+	public String toString() {
+		return String.format("%tT.%<tL %-5s [%s] %s: %s", this.timeMillis, MoreheadEventLog.LEVEL_NAMES[this.level], this.thread, this.source, this.getMessage());
+	}
+}
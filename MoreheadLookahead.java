@@ -0,0 +1,188 @@
+package summative;
+
+/**
+ * Chooses a move by playing the next turns forward in a MoreheadArenaState (expectimax)
+ * This robot's choices are max nodes: stay, or step towards one of the closest opponents and fight it if it is reached
+ * The opponent being chased is a chance node, it is either still there to be fought or has moved away
+ * Other opponents are folded into the expected damage of MoreheadArenaState.takeThreats()
+ * The search deepens one turn at a time until it runs out of time, and the deepest finished search is used
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadLookahead implements MoreheadDecisionEngine {
+	// Time given to each turn when none is set
+	public static final long DEFAULT_BUDGET_NANOS = 1000000;
+
+	private int maxDepth;
+	private long budgetNanos;
+	private MoreheadReachability reachability;
+
+	// One state and one list of actions for every turn searched
+	private MoreheadArenaState [] states;
+	private int [][] actionAve;
+	private int [][] actionStr;
+	private int [][] actionTarget;
+
+	private long deadline;
+	private boolean outOfTime;
+	private int completedDepth;
+
+	/**
+	 * Constructor method
+	 * @param maxDepth - the largest number of turns searched
+	 * @param budgetNanos - the time each turn may take, the first turn is always searched however long it takes
+	 * @param branching - the number of closest opponents this robot considers moving towards
+	 */
+	public MoreheadLookahead(int maxDepth, long budgetNanos, int branching) {
+		this.maxDepth = maxDepth;
+		this.budgetNanos = budgetNanos;
+		this.reachability = MoreheadReachability.forArena();
+		this.states = new MoreheadArenaState[0];
+		this.actionAve = new int[maxDepth][branching + 1];
+		this.actionStr = new int[maxDepth][branching + 1];
+		this.actionTarget = new int[maxDepth][branching + 1];
+	}
+
+	/**
+	 * Searches deeper and deeper until the time runs out
+	 */
+	public boolean decide(MoreheadStrategyRobot robot, MoreheadOpponentTable opponents, int [] request) {
+		// States are only made again when the number of opponents changes
+		if(this.states.length == 0 || this.states[0].capacity() != opponents.size()) {
+			this.states = new MoreheadArenaState[this.maxDepth + 1];
+
+			for(int i = 0; i < this.states.length; i++) {
+				this.states[i] = new MoreheadArenaState(opponents.size());
+			}
+		}
+
+		MoreheadArenaState root = this.states[0];
+		root.load(robot, opponents);
+
+		if(root.getNumOpps() == 0) {
+			return false;
+		}
+
+		this.deadline = System.nanoTime() + this.budgetNanos;
+		this.completedDepth = 0;
+
+		int count = this.listActions(0);
+		int chosen = 0;
+
+		// Iterative deepening, a search that runs out of time is thrown away
+		for(int depth = 1; depth <= this.maxDepth; depth++) {
+			this.outOfTime = false;
+
+			int best = 0;
+			double bestValue = Double.NEGATIVE_INFINITY;
+
+			for(int a = 0; a < count && !this.outOfTime; a++) {
+				double value = this.expected(0, a, depth);
+
+				if(value > bestValue) {
+					bestValue = value;
+					best = a;
+				}
+			}
+
+			if(this.outOfTime) {
+				break;
+			}
+
+			chosen = best;
+			this.completedDepth = depth;
+		}
+
+		int target = this.actionTarget[0][chosen];
+
+		request[0] = this.actionAve[0][chosen];
+		request[1] = this.actionStr[0][chosen];
+		request[2] = (target == -1) ? -1 : root.getOppID(target);
+
+		return true;
+	}
+
+	/**
+	 * Chance node, averages whether or not the chased opponent is still there
+	 * @param level - the turn being searched, 0 for this turn
+	 * @param action - the index of the action at this level
+	 * @param depth - the number of turns left to search, including this one
+	 * @return the expected value of the action
+	 */
+	private double expected(int level, int action, int depth) {
+		if(this.actionTarget[level][action] == -1) {
+			return this.outcome(level, action, false, depth);
+		}
+
+		double fought = this.outcome(level, action, true, depth);
+		double missed = this.outcome(level, action, false, depth);
+
+		return MoreheadArenaState.STAY_CHANCE * fought + (1 - MoreheadArenaState.STAY_CHANCE) * missed;
+	}
+
+	/**
+	 * Plays one action forward and searches the turns after it
+	 * @param level - the turn being searched
+	 * @param action - the index of the action at this level
+	 * @param fights - whether the chased opponent is there to be fought
+	 * @param depth - the number of turns left to search, including this one
+	 * @return the value of the resulting state
+	 */
+	private double outcome(int level, int action, boolean fights, int depth) {
+		MoreheadArenaState child = this.states[level + 1];
+		child.copyFrom(this.states[level]);
+		child.moveSelf(this.actionAve[level][action], this.actionStr[level][action]);
+
+		if(fights) {
+			child.fight(this.actionTarget[level][action]);
+		}
+
+		child.takeThreats();
+		child.regenerate();
+
+		if(depth == 1 || child.getSelfHealth() <= 0) {
+			return child.evaluate();
+		}
+
+		return this.best(level + 1, depth - 1);
+	}
+
+	/**
+	 * Max node, the best action this robot can take
+	 * @param level - the turn being searched
+	 * @param depth - the number of turns left to search, including this one
+	 * @return the value of the best action, 0 if the search ran out of time
+	 */
+	private double best(int level, int depth) {
+		if(System.nanoTime() > this.deadline) {
+			this.outOfTime = true;
+			return 0;
+		}
+
+		int count = this.listActions(level);
+		double bestValue = Double.NEGATIVE_INFINITY;
+
+		for(int a = 0; a < count && !this.outOfTime; a++) {
+			bestValue = Math.max(bestValue, this.expected(level, a, depth));
+		}
+
+		return bestValue;
+	}
+
+	/**
+	 * Lists this robot's actions in the state of a level
+	 * @param level - the turn being searched
+	 * @return the number of actions
+	 */
+	private int listActions(int level) {
+		return this.states[level].listActions(this.reachability, this.actionAve[level], this.actionStr[level], this.actionTarget[level]);
+	}
+
+	/**
+	 * Gets how many turns the last decision searched
+	 * @return the deepest search that finished in time
+	 */
+	public int getCompletedDepth() {
+		return this.completedDepth;
+	}
+}
@@ -0,0 +1,57 @@
+package summative;
+
+/**
+ * Stores the outcome of a single headless match
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadMatchResult {
+	private int winnerID;
+	private int rounds;
+	private int [] health;
+
+	/**
+	 * Constructor method
+	 * @param winnerID - the ID of the winning robot, -1 if the match was a draw
+	 * @param rounds - the number of rounds played
+	 * @param health - the final health of every robot, indexed by ID
+	 */
+	public MoreheadMatchResult(int winnerID, int rounds, int [] health) {
+		this.winnerID = winnerID;
+		this.rounds = rounds;
+		this.health = health;
+	}
+
+	/**
+	 * Gets the ID of the winner
+	 * @return the ID of the winning robot, -1 if nobody won
+	 */
+	public int getWinnerID() {
+		return this.winnerID;
+	}
+
+	/**
+	 * Gets the number of rounds the match lasted
+	 * @return the number of rounds played
+	 */
+	public int getRounds() {
+		return this.rounds;
+	}
+
+	/**
+	 * Gets the final health of a robot
+	 * @param id - the ID of the robot
+	 * @return the health of the robot when the match ended
+	 */
+	public int getHealth(int id) {
+		return this.health[id];
+	}
+
+	/**
+	 * Gets the number of robots in the match
+	 * @return the number of robots
+	 */
+	public int getNumPlayers() {
+		return this.health.length;
+	}
+}
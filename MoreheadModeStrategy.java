@@ -0,0 +1,363 @@
+package summative;
+
+/**
+ * The mode based strategy shared by V1 to V6
+ * Attack: Attacks the opponent with the best score from a MoreheadTargetScorer, a different scorer can be used when energy is low
+ * Defend: Runs away for a few turns when health is low, if the strategy has a flee planner
+ * Movement: Uses a MoreheadMovementPlanner to get to the chosen opponent
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadModeStrategy implements MoreheadStrategy {
+	// What the strategy remembers about its fights
+	public static final int HISTORY_NONE = 0;
+	public static final int HISTORY_DAMAGE_DEALT = 1;
+	public static final int HISTORY_FULL = 2;
+
+	private String name;
+	private MoreheadTargetScorer attackScorer;
+	private MoreheadMovementPlanner planner;
+
+	// Running away when health is low
+	private MoreheadMovementPlanner fleePlanner;
+	private int fleeBelowHealth;
+	private int maxFleeTurns;
+
+	// Sending an empty request when health is low, like the original V2
+	private int idleBelowHealth;
+
+	// Choosing targets differently when energy is low
+	private MoreheadTargetScorer energyLowScorer;
+	private int lowEnergy;
+
+	// Opponent history
+	private int startAgility;
+	private boolean learnsAgility;
+	private int history;
+	private boolean infersStats;
+	private MoreheadKnowledgeStore knowledge;
+	private int turnsPlayed;
+
+	private int turnCount;
+	private boolean attacking;
+	private int fightingID;
+	private MoreheadOpponentTable opponents;
+	private double [] scores;
+
+	// Only the closest opponents are scored when there are more than candidateLimit of them
+	private int candidateLimit;
+	private MoreheadSpatialIndex index;
+	private int [] candidates;
+
+	// Goes to where the target is expected to be instead of where it is when it is set
+	private MoreheadTrajectoryPredictor predictor;
+	private int [] interceptCell;
+
+	// Decides attack mode instead of the scorer and planner when it is set
+	private MoreheadDecisionEngine engine;
+
+	/**
+	 * Constructor method, the strategy only attacks until the other modes are set
+	 * @param name - the name of the strategy, for example "V6"
+	 * @param attackScorer - chooses the opponent to attack
+	 * @param planner - moves the robot towards the opponent
+	 */
+	public MoreheadModeStrategy(String name, MoreheadTargetScorer attackScorer, MoreheadMovementPlanner planner) {
+		this.name = name;
+		this.attackScorer = attackScorer;
+		this.planner = planner;
+		this.history = HISTORY_NONE;
+		this.candidateLimit = Integer.MAX_VALUE;
+		this.fightingID = -1;
+	}
+
+	/**
+	 * Makes the robot run away for a few turns when its health is low
+	 * @param fleePlanner - moves the robot away
+	 * @param fleeBelowHealth - the robot runs away when its health is below this
+	 * @param maxFleeTurns - the number of turns in a row the robot can run away for
+	 */
+	public void setFleeMode(MoreheadMovementPlanner fleePlanner, int fleeBelowHealth, int maxFleeTurns) {
+		this.fleePlanner = fleePlanner;
+		this.fleeBelowHealth = fleeBelowHealth;
+		this.maxFleeTurns = maxFleeTurns;
+	}
+
+	/**
+	 * Sends the request of the original V2 when health is low, its low health mode was empty and left the request at
+	 * (0, 0) fighting robot 0
+	 * @param idleBelowHealth - the robot sends the empty request when its health is below this
+	 */
+	public void setIdleMode(int idleBelowHealth) {
+		this.idleBelowHealth = idleBelowHealth;
+	}
+
+	/**
+	 * Uses a different scorer when the robot's energy is low
+	 * @param energyLowScorer - chooses the opponent to attack when energy is low
+	 * @param lowEnergy - energy at or below this is low
+	 */
+	public void setEnergyLowMode(MoreheadTargetScorer energyLowScorer, int lowEnergy) {
+		this.energyLowScorer = energyLowScorer;
+		this.lowEnergy = lowEnergy;
+	}
+
+	/**
+	 * Sets what the strategy remembers about its opponents
+	 * @param startAgility - the agility every opponent starts with
+	 * @param learnsAgility - whether agility and defense are worked out from how far opponents move
+	 * @param history - HISTORY_NONE, HISTORY_DAMAGE_DEALT (V4, only the health opponents lose is known) or HISTORY_FULL
+	 */
+	public void setOpponentHistory(int startAgility, boolean learnsAgility, int history) {
+		this.startAgility = startAgility;
+		this.learnsAgility = learnsAgility;
+		this.history = history;
+		this.opponents = null;
+	}
+
+	/**
+	 * Works out opponent stats with a MoreheadStatEstimator instead of keeping the largest value seen
+	 * Needs HISTORY_FULL, fights are then only counted as this robot's attack when it asked to fight that opponent
+	 * @param infersStats - whether the estimator is used
+	 */
+	public void setStatInference(boolean infersStats) {
+		this.infersStats = infersStats;
+		this.opponents = null;
+	}
+
+	/**
+	 * Starts the estimator from what earlier matches learnt and records what it learns, needs stat inference
+	 * @param knowledge - the store, null to forget every opponent after a match
+	 */
+	public void setKnowledgeStore(MoreheadKnowledgeStore knowledge) {
+		this.knowledge = knowledge;
+		this.opponents = null;
+	}
+
+	/**
+	 * Only scores the closest opponents in arenas with many robots, found with a MoreheadSpatialIndex
+	 * @param candidateLimit - the largest number of opponents scored each turn, every opponent is scored in smaller arenas
+	 * @param bucketSize - the width and height of each bucket of the index
+	 */
+	public void setCandidateLimit(int candidateLimit, int bucketSize) {
+		this.candidateLimit = candidateLimit;
+		this.index = new MoreheadSpatialIndex(BattleManager.WIDTH, BattleManager.HEIGHT, bucketSize);
+		this.candidates = new int[candidateLimit];
+	}
+
+	/**
+	 * Moves towards the cell the target is most likely to be on next turn, from a MoreheadTrajectoryPredictor
+	 * @param history - the number of moves remembered for each opponent, 0 to go to where the target is
+	 */
+	public void setPrediction(int history) {
+		this.predictor = (history > 0) ? new MoreheadTrajectoryPredictor(history, BattleManager.WIDTH, BattleManager.HEIGHT) : null;
+		this.interceptCell = new int[2];
+	}
+
+	/**
+	 * Lets a search based engine decide attack mode, the scorer and planner are only used if the engine cannot decide
+	 * @param engine - the engine, null to go back to the scorer and planner
+	 */
+	public void setDecisionEngine(MoreheadDecisionEngine engine) {
+		this.engine = engine;
+	}
+
+	/**
+	 * Replaces the scorer used to choose the opponent to attack
+	 * @param attackScorer - the new scorer
+	 */
+	public void setAttackScorer(MoreheadTargetScorer attackScorer) {
+		this.attackScorer = attackScorer;
+	}
+
+	/**
+	 * Replaces the planner used to get to the opponent being attacked
+	 * @param planner - the new planner
+	 */
+	public void setPlanner(MoreheadMovementPlanner planner) {
+		this.planner = planner;
+	}
+
+	/**
+	 * Gets the opponent table, should only be read
+	 * @return the opponent table, null before the first turn
+	 */
+	public MoreheadOpponentTable getOpponents() {
+		return this.opponents;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Adds information from battleResult to the opponent table
+	 */
+	public void battleResult(MoreheadStrategyRobot robot, int healthLost, int oppID, int oppHealthLost, int numRoundsFought) {
+		if(this.history == HISTORY_NONE || this.opponents == null) {
+			return;
+		}
+
+		int slot = this.opponents.slotOf(oppID);
+
+		if(slot == -1) {
+			return;
+		}
+
+		if(this.history == HISTORY_FULL && this.infersStats) {
+			// Another robot can attack this one in the same round that it attacks, so only its own target counts as its attack
+			this.opponents.addFight(slot, healthLost, oppHealthLost, numRoundsFought, oppID == this.fightingID);
+		} else if(this.history == HISTORY_FULL) {
+			this.opponents.addFight(slot, healthLost, oppHealthLost, numRoundsFought, this.attacking);
+		} else {
+			this.opponents.addFight(slot, Math.abs(oppHealthLost), Math.abs(oppHealthLost), numRoundsFought, false);
+		}
+
+		// The robot takes no more turns once this fight kills it
+		if(robot.getHealth() <= 0 && robot.getHealth() + healthLost > 0) {
+			this.opponents.saveKnowledge(robot.getID());
+		}
+	}
+
+	/**
+	 * Responsible for the AI of the robot
+	 */
+	public int takeTurn(MoreheadStrategyRobot robot, MoreheadArenaView view, int [] request) {
+		// Offline arenas can have a different number of players than BattleManager.NUM_PLAYERS
+		if(this.opponents == null || this.opponents.size() != view.size()) {
+			this.opponents = new MoreheadOpponentTable(view.size(), this.startAgility);
+			this.scores = new double[view.size()];
+
+			if(this.infersStats) {
+				this.opponents.setEstimator(new MoreheadStatEstimator(view.size(), robot.getAttack(), robot.getDefense()));
+
+				if(this.knowledge != null) {
+					this.opponents.setKnowledge(this.knowledge, robot.getEntrantKeys());
+				}
+			}
+		}
+
+		// Refreshing the opponent table so that its fight history and stats are kept
+		this.opponents.refresh(view);
+
+		if(this.learnsAgility) {
+			this.opponents.updateAgility();
+		}
+
+		if(this.predictor != null) {
+			this.predictor.update(this.opponents);
+		}
+
+		// Matches give no sign that they have ended, so what is known is saved every so often
+		this.turnsPlayed++;
+
+		if(this.turnsPlayed % MoreheadKnowledgeStore.SAVE_INTERVAL == 0) {
+			this.opponents.saveKnowledge(robot.getID());
+		}
+
+		// Determines which actions to take
+		int currentMode = MoreheadTurnStats.ATTACK;
+		boolean idle = false;
+
+		// Resetting turnCount if the robot has not ran in a while
+		if(this.turnCount > 10) {
+			this.turnCount = 0;
+		}
+
+		// Choosing the mode
+		if(this.fleePlanner != null && robot.getHealth() < this.fleeBelowHealth && this.turnCount < this.maxFleeTurns) {
+			currentMode = MoreheadTurnStats.HEALTH_LOW;
+		} else if(robot.getHealth() < this.idleBelowHealth) {
+			currentMode = MoreheadTurnStats.HEALTH_LOW;
+			idle = true;
+		} else if(this.energyLowScorer != null && robot.getEnergy() <= this.lowEnergy) {
+			currentMode = MoreheadTurnStats.ENERGY_LOW;
+		}
+
+		this.turnCount++;
+
+		// State system which toggles between different modes
+		switch(currentMode) {
+		case MoreheadTurnStats.HEALTH_LOW:
+			if(idle) {
+				request[0] = 0;
+				request[1] = 0;
+				request[2] = 0;
+			} else {
+				this.fleePlanner.plan(robot, this.opponents, robot.getAvenue(), robot.getStreet(), request);
+				request[2] = -1;
+			}
+			break;
+
+		case MoreheadTurnStats.ENERGY_LOW:
+			this.attack(robot, this.energyLowScorer, request);
+			break;
+
+		default:
+			if(this.engine == null || !this.engine.decide(robot, this.opponents, request)) {
+				this.attack(robot, this.attackScorer, request);
+			}
+			break;
+		}
+
+		// If the requested opponent is -1, then this robot is not attacking anyone
+		this.attacking = request[2] != -1;
+		this.fightingID = request[2];
+
+		return currentMode;
+	}
+
+	/**
+	 * ATTACK MODE: Goes towards the opponent with the best score and fights it if it can be reached
+	 * @param robot - the robot attacking
+	 * @param scorer - scores every opponent
+	 * @param request - filled with the location and ID of the robot to be attacked
+	 */
+	private void attack(MoreheadStrategyRobot robot, MoreheadTargetScorer scorer, int [] request) {
+		int target;
+
+		if(this.opponents.size() > this.candidateLimit) {
+			// Too many opponents to score them all, so only the closest are considered
+			this.index.update(this.opponents);
+			int count = this.index.kNearest(robot.getAvenue(), robot.getStreet(), this.candidateLimit, robot.getID(), this.candidates);
+
+			scorer.scoreRows(this.opponents, this.candidates, count, this.scores);
+			target = this.opponents.selectBest(this.scores, this.candidates, count, robot.getID());
+		} else {
+			scorer.score(this.opponents, this.scores);
+			target = this.opponents.selectBest(this.scores, robot.getID());
+		}
+
+		int fightingID = -1;
+		int opponentAve = 0;
+		int opponentStr = 0;
+
+		// Retrieves the ID and location of the opponent being fought
+		if(target != -1) {
+			fightingID = this.opponents.getID(target);
+			opponentAve = this.opponents.getAvenue(target);
+			opponentStr = this.opponents.getStreet(target);
+
+			// The target moves at the same time, so the robot goes to where it is likely to end up
+			if(this.predictor != null) {
+				this.predictor.intercept(target, this.interceptCell);
+				opponentAve = this.interceptCell[0];
+				opponentStr = this.interceptCell[1];
+			}
+
+			if(MoreheadEventLog.isEnabled(MoreheadEventLog.TRACE)) {
+				MoreheadEventLog.log(MoreheadEventLog.TRACE, this.name, "Robot %d targets opponent %d at (%d, %d) with score %.3f",
+						robot.getID(), fightingID, opponentAve, opponentStr, this.scores[target]);
+			}
+		}
+
+		this.planner.plan(robot, this.opponents, opponentAve, opponentStr, request);
+
+		// If this robot is unable to reach the opponent on its turn, it is not fighting any robot
+		if(opponentAve != request[0] || opponentStr != request[1]) {
+			request[2] = -1;
+		} else {
+			request[2] = fightingID;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package summative;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Chooses a move by playing many random rollouts of the next few turns for every candidate and keeping the best average
+ * The candidates are the same as MoreheadLookahead's: stay, or step towards one of the closest opponents
+ * Fights and attacks from opponents are rolled the same way as the arena, later turns pick a random action
+ * Rollouts are split between MoreheadRolloutWorkers, each worker only writes to its own state and uses its own random numbers
+ * The number of rollouts is fixed, so a seeded match plays the same however fast the machine is and whether or not the
+ * workers run on a pool. A time budget can be set instead, which gives up that guarantee
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadMonteCarloPlanner implements MoreheadDecisionEngine {
+	// Number of rollouts in a turn when none is set, about a millisecond on one core
+	public static final int DEFAULT_ROLLOUTS = 2000;
+
+	private int depth;
+	private int branching;
+	private int maxRollouts;
+	private int parallelism;
+
+	// Time the rollouts may take, 0 for no limit
+	private long budgetNanos;
+
+	// Pool the workers run on, null to run them one after another on the robot's thread
+	private ForkJoinPool pool;
+	private MoreheadReachability reachability;
+
+	private MoreheadArenaState root;
+	private MoreheadRolloutWorker [] workers;
+
+	// Candidate requests for this turn
+	private int [] candidateAve;
+	private int [] candidateStr;
+	private int [] candidateTarget;
+	private int lastRollouts;
+
+	/**
+	 * Constructor method
+	 * @param depth - the number of turns in each rollout
+	 * @param branching - the number of closest opponents considered on each turn
+	 * @param maxRollouts - the number of rollouts in a turn
+	 * @param parallelism - the number of workers the rollouts are split between, the same split is used with or without a pool
+	 */
+	public MoreheadMonteCarloPlanner(int depth, int branching, int maxRollouts, int parallelism) {
+		this.depth = depth;
+		this.branching = branching;
+		this.maxRollouts = maxRollouts;
+		this.parallelism = parallelism;
+		this.reachability = MoreheadReachability.forArena();
+		this.candidateAve = new int[branching + 1];
+		this.candidateStr = new int[branching + 1];
+		this.candidateTarget = new int[branching + 1];
+	}
+
+	/**
+	 * Sets the pool the workers run on, owned by the caller and not shut down by the planner
+	 * Robots taking turns at the same time should not all wait on one small pool
+	 * @param pool - the pool, null to run every worker on the robot's own thread
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Stops the rollouts of a turn after some time as well as after the number of rollouts
+	 * Every candidate still gets at least one rollout. How many more are played depends on the machine, so seeded matches
+	 * are no longer repeatable
+	 * @param budgetNanos - the time the rollouts may take, 0 or less for no limit
+	 */
+	public void setTimeBudget(long budgetNanos) {
+		this.budgetNanos = Math.max(0, budgetNanos);
+	}
+
+	/**
+	 * Plays the rollouts and picks the candidate with the best average
+	 */
+	public boolean decide(MoreheadStrategyRobot robot, MoreheadOpponentTable opponents, int [] request) {
+		// States are only made again when the number of opponents changes
+		if(this.root == null || this.root.capacity() != opponents.size()) {
+			this.root = new MoreheadArenaState(opponents.size());
+			this.workers = new MoreheadRolloutWorker[this.parallelism];
+
+			// Splitting the robot's generator keeps seeded matches repeatable
+			for(int w = 0; w < this.workers.length; w++) {
+				this.workers[w] = new MoreheadRolloutWorker(robot.getRandom().split(), opponents.size(), this.branching, this.branching + 1);
+			}
+		}
+
+		this.root.load(robot, opponents);
+
+		if(this.root.getNumOpps() == 0) {
+			return false;
+		}
+
+		int count = this.root.listActions(this.reachability, this.candidateAve, this.candidateStr, this.candidateTarget);
+		long deadline = (this.budgetNanos == 0) ? MoreheadRolloutWorker.NO_DEADLINE : System.nanoTime() + this.budgetNanos;
+
+		if(this.pool == null || this.workers.length == 1) {
+			for(int w = 0; w < this.workers.length; w++) {
+				this.workers[w].run(this.root, this.candidateAve, this.candidateStr, this.candidateTarget, count, w, this.workers.length, this.maxRollouts, this.depth, deadline);
+			}
+		} else {
+			this.runParallel(count, deadline);
+		}
+
+		// Adding up every worker's rollouts, ties go to the lower candidate
+		int chosen = 0;
+		double bestAverage = Double.NEGATIVE_INFINITY;
+		this.lastRollouts = 0;
+
+		for(int c = 0; c < count; c++) {
+			double total = 0;
+			int rollouts = 0;
+
+			for(int w = 0; w < this.workers.length; w++) {
+				total += this.workers[w].getTotal(c);
+				rollouts += this.workers[w].getCount(c);
+			}
+
+			this.lastRollouts += rollouts;
+
+			if(rollouts > 0 && total / rollouts > bestAverage) {
+				bestAverage = total / rollouts;
+				chosen = c;
+			}
+		}
+
+		int target = this.candidateTarget[chosen];
+
+		request[0] = this.candidateAve[chosen];
+		request[1] = this.candidateStr[chosen];
+		request[2] = (target == -1) ? -1 : this.root.getOppID(target);
+
+		return true;
+	}
+
+	/**
+	 * Plays the rollouts on every worker at the same time
+	 * @param count - the number of candidates
+	 * @param deadline - System.nanoTime() at which rollouts stop, NO_DEADLINE for none
+	 */
+	private void runParallel(int count, long deadline) {
+		MoreheadRolloutWorker [] workers = this.workers;
+		MoreheadArenaState root = this.root;
+
+		try {
+			this.pool.submit(() -> IntStream.range(0, workers.length).parallel().forEach(w -> workers[w].run(root, this.candidateAve, this.candidateStr, this.candidateTarget, count, w, workers.length, this.maxRollouts, this.depth, deadline))).get();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Rollouts were interrupted", e);
+		} catch(ExecutionException e) {
+			throw new IllegalStateException("A rollout failed", e.getCause());
+		}
+	}
+
+	/**
+	 * Gets how many rollouts the last decision played
+	 * @return the number of rollouts over every candidate and worker
+	 */
+	public int getLastRollouts() {
+		return this.lastRollouts;
+	}
+}
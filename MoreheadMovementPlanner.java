@@ -0,0 +1,18 @@
+package summative;
+
+/**
+ * Decides where a robot asks to move on its turn
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public interface MoreheadMovementPlanner {
+	/**
+	 * Plans a move towards a location
+	 * @param robot - the robot moving
+	 * @param opponents - the opponent table
+	 * @param targetAve - the avenue the robot wants to reach
+	 * @param targetStr - the street the robot wants to reach
+	 * @param request - filled with the requested avenue and street in its first two elements
+	 */
+	void plan(MoreheadStrategyRobot robot, MoreheadOpponentTable opponents, int targetAve, int targetStr, int [] request);
+}
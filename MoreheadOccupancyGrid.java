@@ -0,0 +1,92 @@
+package summative;
+
+import java.util.Arrays;
+
+/**
+ * How many robots are on each cell of the arena
+ * Kept up to date from the arena each turn, only robots that moved change any counts
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadOccupancyGrid {
+	private int width;
+	private int height;
+
+	// Number of robots on every cell, dead or alive
+	private int [] occupants;
+
+	// Cell of every robot at the last update, -1 for a cell outside the arena
+	private int [] cellOf;
+
+	/**
+	 * Constructor method
+	 * @param width - the number of avenues in the arena
+	 * @param height - the number of streets in the arena
+	 */
+	public MoreheadOccupancyGrid(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.occupants = new int[width * height];
+		this.cellOf = new int[0];
+	}
+
+	/**
+	 * Brings the grid up to date with the arena
+	 * @param view - the view of the round, every robot keeps its index from one turn to the next
+	 */
+	public void update(MoreheadArenaView view) {
+		// A different number of robots means the indexes no longer match, so the grid starts over
+		if(view.size() != this.cellOf.length) {
+			Arrays.fill(this.occupants, 0);
+			this.cellOf = new int[view.size()];
+
+			for(int i = 0; i < view.size(); i++) {
+				this.cellOf[i] = -1;
+			}
+		}
+
+		for(int i = 0; i < view.size(); i++) {
+			int cell = this.cellOf(view.getAvenue(i), view.getStreet(i));
+
+			if(cell == this.cellOf[i]) {
+				continue;
+			}
+
+			if(this.cellOf[i] != -1) {
+				this.occupants[this.cellOf[i]]--;
+			}
+
+			if(cell != -1) {
+				this.occupants[cell]++;
+			}
+
+			this.cellOf[i] = cell;
+		}
+	}
+
+	/**
+	 * Gets the number of robots on a cell
+	 * @param ave - the avenue of the cell
+	 * @param str - the street of the cell
+	 * @return the number of robots, dead or alive, 0 outside the arena
+	 */
+	public int getOccupants(int ave, int str) {
+		int cell = this.cellOf(ave, str);
+
+		return (cell == -1) ? 0 : this.occupants[cell];
+	}
+
+	/**
+	 * Finds the cell number of a location
+	 * @param ave - the avenue
+	 * @param str - the street
+	 * @return street * width + avenue, -1 outside the arena
+	 */
+	private int cellOf(int ave, int str) {
+		if(ave < 0 || ave >= this.width || str < 0 || str >= this.height) {
+			return -1;
+		}
+
+		return str * this.width + ave;
+	}
+}
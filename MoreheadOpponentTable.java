@@ -0,0 +1,466 @@
+package summative;
+
+import java.util.Arrays;
+
+/**
+ * Stores the data of every opponent in columns of ints instead of one object per opponent
+ * Keeps the same history as MoreheadOppData, but a scan over all opponents reads each column from start to end
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadOpponentTable {
+	private int [] id;
+	private int [] avenue;
+	private int [] street;
+	private int [] health;
+	private int [] attack;
+	private int [] defense;
+	private int [] agility;
+	private int [] healthLost;
+	private int [] oppHealthLost;
+
+	// Moves from the robot using the table to each opponent, measured every turn
+	private int [] distance;
+
+	// Location from the previous turn, used to find agility
+	private int [] prevAvenue;
+	private int [] prevStreet;
+
+	// The row of each ID, so that an opponent always stays in the same row and can be found without a search
+	private int [] slotOf;
+	private int numSlots;
+
+	// Replaces the largest value seen with a probability over every stat allocation when it is set
+	private MoreheadStatEstimator estimator;
+	private boolean [] located;
+
+	// Gives the estimator what earlier matches learnt about each opponent when it is set
+	private MoreheadKnowledgeStore knowledge;
+	private String [] entrantKeys;
+	private double [] logProbabilities;
+
+	/**
+	 * Constructor method
+	 * @param numPlayers - the number of robots in the arena
+	 * @param startAgility - the agility every opponent starts with
+	 */
+	public MoreheadOpponentTable(int numPlayers, int startAgility) {
+		this.id = new int[numPlayers];
+		this.avenue = new int[numPlayers];
+		this.street = new int[numPlayers];
+		this.health = new int[numPlayers];
+		this.attack = new int[numPlayers];
+		this.defense = new int[numPlayers];
+		this.agility = new int[numPlayers];
+		this.healthLost = new int[numPlayers];
+		this.oppHealthLost = new int[numPlayers];
+		this.distance = new int[numPlayers];
+		this.prevAvenue = new int[numPlayers];
+		this.prevStreet = new int[numPlayers];
+		this.slotOf = new int[numPlayers];
+		this.numSlots = 0;
+
+		// Rows are given out the first time an ID is seen
+		for(int i = 0; i < numPlayers; i++) {
+			this.id[i] = -1;
+			this.agility[i] = startAgility;
+			this.slotOf[i] = -1;
+		}
+	}
+
+	/**
+	 * Works out attack, defense and agility with a MoreheadStatEstimator instead of keeping the largest value seen
+	 * The stat columns then hold the rounded expected stats, so the scorers read them the same way
+	 * @param estimator - the estimator, with one slot for every row of this table
+	 */
+	public void setEstimator(MoreheadStatEstimator estimator) {
+		this.estimator = estimator;
+		this.located = new boolean[this.id.length];
+
+		for(int i = 0; i < this.id.length; i++) {
+			this.copyEstimate(i);
+		}
+	}
+
+	/**
+	 * Starts every opponent from what earlier matches learnt about its entrant, needs an estimator
+	 * Only rows given out after this is called are started from the store
+	 * @param knowledge - the store
+	 * @param entrantKeys - the key of the entrant in every seat indexed by ID, null to know opponents by their seat
+	 */
+	public void setKnowledge(MoreheadKnowledgeStore knowledge, String [] entrantKeys) {
+		this.knowledge = knowledge;
+		this.entrantKeys = entrantKeys;
+		this.logProbabilities = new double[MoreheadStatEstimator.NUM_ALLOCATIONS];
+	}
+
+	/**
+	 * Finds the key an opponent is kept under in the knowledge store
+	 * @param oppID - the ID of the opponent
+	 * @return the key of its entrant, or of its seat when the arena has not given entrant keys
+	 */
+	private String keyOf(int oppID) {
+		if(this.entrantKeys != null && oppID < this.entrantKeys.length) {
+			return this.entrantKeys[oppID];
+		}
+
+		return MoreheadKnowledgeStore.seatKey(oppID);
+	}
+
+	/**
+	 * Records what the estimator knows about every opponent it has seen in the knowledge store
+	 * @param selfID - the ID of the robot using the table, which is not recorded
+	 */
+	public void saveKnowledge(int selfID) {
+		if(this.knowledge == null || this.estimator == null) {
+			return;
+		}
+
+		for(int slot = 0; slot < this.numSlots; slot++) {
+			if(this.id[slot] != selfID && this.located[slot]) {
+				this.estimator.getLogPosterior(slot, this.logProbabilities);
+				this.knowledge.record(this.keyOf(this.id[slot]), this.logProbabilities);
+			}
+		}
+	}
+
+	/**
+	 * Gets the estimator of this table
+	 * @return the estimator, null when stats are the largest value seen
+	 */
+	public MoreheadStatEstimator getEstimator() {
+		return this.estimator;
+	}
+
+	/**
+	 * Copies the expected stats of an opponent into the stat columns
+	 * @param slot - the row of the opponent
+	 */
+	private void copyEstimate(int slot) {
+		this.attack[slot] = (int)Math.round(this.estimator.getAttack(slot));
+		this.defense[slot] = (int)Math.round(this.estimator.getDefense(slot));
+		this.agility[slot] = (int)Math.round(this.estimator.getAgility(slot));
+	}
+
+	/**
+	 * Gets the number of opponents in this table
+	 * @return the number of rows
+	 */
+	public int size() {
+		return this.id.length;
+	}
+
+	/**
+	 * Copies the newest location, health and distance of every opponent while keeping their history
+	 * @param view - the robot's view of the round
+	 */
+	public void refresh(MoreheadArenaView view) {
+		for(int i = 0; i < view.size(); i++) {
+			int slot = this.slotFor(view.getID(i));
+
+			// An ID that does not fit in the table is ignored
+			if(slot == -1) {
+				continue;
+			}
+
+			this.prevAvenue[slot] = this.avenue[slot];
+			this.prevStreet[slot] = this.street[slot];
+
+			this.avenue[slot] = view.getAvenue(i);
+			this.street[slot] = view.getStreet(i);
+			this.health[slot] = view.getHealth(i);
+			this.distance[slot] = view.getDistance(i);
+
+			// A move can only be measured once there is a previous location, and dead robots do not move
+			if(this.estimator != null) {
+				if(this.located[slot] && this.health[slot] > 0) {
+					this.estimator.observeMove(slot, Math.abs(this.prevAvenue[slot] - this.avenue[slot]) + Math.abs(this.prevStreet[slot] - this.street[slot]));
+					this.copyEstimate(slot);
+				}
+
+				this.located[slot] = true;
+			}
+		}
+	}
+
+	/**
+	 * Finds the row of an opponent in constant time
+	 * @param oppID - the ID of the opponent
+	 * @return the row of the opponent, -1 if it has not been seen yet
+	 */
+	public int slotOf(int oppID) {
+		if(oppID < 0 || oppID >= this.slotOf.length) {
+			return -1;
+		}
+
+		return this.slotOf[oppID];
+	}
+
+	/**
+	 * Finds the row of an opponent, giving it the next free row the first time it is seen
+	 * @param oppID - the ID of the opponent
+	 * @return the row of the opponent, -1 if the ID is negative or the table is full
+	 */
+	private int slotFor(int oppID) {
+		int slot = this.slotOf(oppID);
+
+		if(slot != -1 || oppID < 0 || this.numSlots == this.id.length) {
+			return slot;
+		}
+
+		// IDs are normally below the number of players, but the index grows if they are not
+		if(oppID >= this.slotOf.length) {
+			int oldLength = this.slotOf.length;
+			this.slotOf = Arrays.copyOf(this.slotOf, Math.max(oppID + 1, 2 * oldLength));
+			Arrays.fill(this.slotOf, oldLength, this.slotOf.length, -1);
+		}
+
+		slot = this.numSlots;
+		this.numSlots++;
+
+		this.slotOf[oppID] = slot;
+		this.id[slot] = oppID;
+
+		if(this.knowledge != null && this.estimator != null && this.knowledge.getPrior(this.keyOf(oppID), this.logProbabilities)) {
+			this.estimator.setPrior(slot, this.logProbabilities);
+			this.copyEstimate(slot);
+		}
+
+		return slot;
+	}
+
+	/**
+	 * Updates the agility of every opponent based on how far it moved since the last refresh
+	 */
+	public void updateAgility() {
+		// The estimator already learns agility in refresh
+		if(this.estimator != null) {
+			return;
+		}
+
+		for(int i = 0; i < this.numSlots; i++) {
+			// Used for the starting round, will cause slight logic error in certain situations so fix later
+			if(this.prevAvenue[i] == 0 || this.prevStreet[i] == 0) {
+				continue;
+			}
+
+			int distance = Math.abs(this.prevAvenue[i] - this.avenue[i]) + Math.abs(this.prevStreet[i] - this.street[i]);
+
+			// If the distance travelled is greater than this opponent's current agility, update it
+			if(distance > this.agility[i]) {
+				this.agility[i] = distance;
+			}
+
+			// If the robot's agility is outside of the accepted range, set it to 0
+			if(this.agility[i] > 6 || this.agility[i] < 0) {
+				this.agility[i] = 0;
+			}
+
+			// If the the sum of this opponent's attack and agility is greater or equal to four, the defence can be found
+			if(this.attack[i] + this.agility[i] >= 4) {
+				this.defense[i] = 10 - this.attack[i] - this.agility[i];
+			}
+		}
+	}
+
+	/**
+	 * Adds a fight against an opponent to its history
+	 * @param slot - the row of the opponent
+	 * @param healthLost - health lost against this opponent
+	 * @param oppHealthLost - how much health this opponent lost
+	 * @param numRounds - the number of rounds the fight between opponents lasted
+	 * @param defending - whether or not this opponent is defending
+	 */
+	public void addFight(int slot, int healthLost, int oppHealthLost, int numRounds, boolean defending) {
+		this.healthLost[slot] += healthLost;
+		this.oppHealthLost[slot] += oppHealthLost;
+
+		if(this.estimator != null) {
+			this.estimator.observeFight(slot, healthLost, oppHealthLost, numRounds, defending);
+			this.copyEstimate(slot);
+			return;
+		}
+
+		// If the number of rounds engaged by an attacking opponent is greater than its current attack, then update it
+		if(!defending && numRounds > this.attack[slot]) {
+			this.attack[slot] = numRounds;
+		}
+	}
+
+	/**
+	 * Retrieves a double that represents the advantage against an opponent, same as MoreheadOppData.getAdvantage()
+	 * @param slot - the row of the opponent
+	 * @return - the ratio between the amount of health this opponent has lost vs how much the other opponent has lost
+	 */
+	public double getAdvantage(int slot) {
+		// If this opponent or the other opponent has lost any health
+		if(this.oppHealthLost[slot] + this.healthLost[slot] > 0) {
+			return 100.0 * (((double)this.oppHealthLost[slot] / (double)this.healthLost[slot]) / ((double)this.oppHealthLost[slot] + (double)this.healthLost[slot]));
+		} else {
+			return 5;
+		}
+	}
+
+	/**
+	 * Finds the opponent with the highest score that is alive and is not the robot choosing
+	 * @param scores - the score of every row
+	 * @param selfID - the ID of the robot choosing
+	 * @return the row of the best opponent, -1 if there is none
+	 */
+	public int selectBest(double [] scores, int selfID) {
+		int best = -1;
+
+		// For every opponent
+		for(int i = 0; i < this.id.length; i++) {
+			// Only live opponents that are not this robot can be attacked, ties go to the lower row
+			if(this.id[i] != selfID && this.health[i] > 0) {
+				if(best == -1 || scores[i] > scores[best]) {
+					best = i;
+				}
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Finds the opponent with the highest score out of some rows, that is alive and is not the robot choosing
+	 * @param scores - the score of every row
+	 * @param rows - the rows to choose from
+	 * @param count - the number of rows to choose from
+	 * @param selfID - the ID of the robot choosing
+	 * @return the row of the best opponent, -1 if there is none
+	 */
+	public int selectBest(double [] scores, int [] rows, int count, int selfID) {
+		int best = -1;
+
+		for(int j = 0; j < count; j++) {
+			int i = rows[j];
+
+			// Ties go to the lower row, the same as when every row is scored
+			if(this.id[i] != selfID && this.health[i] > 0) {
+				if(best == -1 || scores[i] > scores[best] || (scores[i] == scores[best] && i < best)) {
+					best = i;
+				}
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Gets the ID of an opponent
+	 * @param slot - the row of the opponent
+	 * @return the opponent's ID, -1 if the row is not used yet
+	 */
+	public int getID(int slot) {
+		return this.id[slot];
+	}
+
+	/**
+	 * Gets the avenue of an opponent
+	 * @param slot - the row of the opponent
+	 * @return the opponent's avenue
+	 */
+	public int getAvenue(int slot) {
+		return this.avenue[slot];
+	}
+
+	/**
+	 * Gets the street of an opponent
+	 * @param slot - the row of the opponent
+	 * @return the opponent's street
+	 */
+	public int getStreet(int slot) {
+		return this.street[slot];
+	}
+
+	/**
+	 * Gets the health of an opponent
+	 * @param slot - the row of the opponent
+	 * @return the opponent's health
+	 */
+	public int getHealth(int slot) {
+		return this.health[slot];
+	}
+
+	/**
+	 * Gets the ID column, should only be read
+	 * @return the ID of every opponent, -1 for unused rows
+	 */
+	public int [] getIDs() {
+		return this.id;
+	}
+
+	/**
+	 * Gets the avenue column, should only be read
+	 * @return the avenue of every opponent
+	 */
+	public int [] getAvenues() {
+		return this.avenue;
+	}
+
+	/**
+	 * Gets the street column, should only be read
+	 * @return the street of every opponent
+	 */
+	public int [] getStreets() {
+		return this.street;
+	}
+
+	/**
+	 * Gets the distance column, should only be read
+	 * @return the number of moves from the robot to every opponent, as of the last refresh
+	 */
+	public int [] getDistances() {
+		return this.distance;
+	}
+
+	/**
+	 * Gets the health column, should only be read
+	 * @return the health of every opponent
+	 */
+	public int [] getHealths() {
+		return this.health;
+	}
+
+	/**
+	 * Gets the attack column, should only be read
+	 * @return the attack of every opponent
+	 */
+	public int [] getAttacks() {
+		return this.attack;
+	}
+
+	/**
+	 * Gets the defense column, should only be read
+	 * @return the defense of every opponent
+	 */
+	public int [] getDefenses() {
+		return this.defense;
+	}
+
+	/**
+	 * Gets the agility column, should only be read
+	 * @return the agility of every opponent
+	 */
+	public int [] getAgilities() {
+		return this.agility;
+	}
+
+	/**
+	 * Gets the column of health lost against each opponent, should only be read
+	 * @return how much health has been lost against every opponent
+	 */
+	public int [] getHealthLost() {
+		return this.healthLost;
+	}
+
+	/**
+	 * Gets the column of health each opponent has lost, should only be read
+	 * @return how much health every opponent has lost
+	 */
+	public int [] getOppHealthLost() {
+		return this.oppHealthLost;
+	}
+}
@@ -0,0 +1,74 @@
+package summative;
+
+/**
+ * Runs away in a random direction, ignoring the target
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadRandomFleePlanner implements MoreheadMovementPlanner {
+	private boolean randomDistance;
+
+	/**
+	 * Constructor method
+	 * @param randomDistance - whether the robot runs a random number of moves (V5), or as far as it can afford
+	 */
+	public MoreheadRandomFleePlanner(boolean randomDistance) {
+		this.randomDistance = randomDistance;
+	}
+
+	/**
+	 * Run away to an arbitrary location
+	 * @param robot - the robot moving
+	 * @param opponents - not used
+	 * @param targetAve - not used
+	 * @param targetStr - not used
+	 * @param request - filled with the requested location
+	 */
+	public void plan(MoreheadStrategyRobot robot, MoreheadOpponentTable opponents, int targetAve, int targetStr, int [] request) {
+		int moveAmount = robot.getAffordableMoves();
+
+		if(this.randomDistance) {
+			moveAmount = robot.getRandom().nextInt(moveAmount + 1);
+		}
+
+		// Randomly chooses a direction to go in
+		switch(robot.getRandom().nextInt(4)) {
+		case 0: // Right
+			request[0] = robot.getAvenue() + moveAmount;
+			request[1] = robot.getStreet();
+
+			// Makes sure that robot does not request a location outside of the arena
+			if(request[0] > BattleManager.WIDTH - 1) {
+				request[0] = BattleManager.WIDTH-1;
+			}
+			break;
+		case 1: //  Left
+			request[0] = robot.getAvenue() - moveAmount;
+			request[1] = robot.getStreet();
+
+			// Makes sure that robot does not request a location outside of the arena
+			if(request[0] < 0) {
+				request[0] = 0;
+			}
+			break;
+		case 2: // Up
+			request[0] = robot.getAvenue();
+			request[1] = robot.getStreet() - moveAmount;
+
+			// Makes sure that robot does not request a location outside of the arena
+			if(request[1] < 0) {
+				request[1] = 0;
+			}
+			break;
+		default: // Down
+			request[0] = robot.getAvenue();
+			request[1] = robot.getStreet() + moveAmount;
+
+			// Makes sure that robot does not request a location outside of the arena
+			if(request[1] > BattleManager.HEIGHT - 1) {
+				request[1] = BattleManager.HEIGHT - 1;
+			}
+			break;
+		}
+	}
+}
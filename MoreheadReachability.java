@@ -0,0 +1,76 @@
+package summative;
+
+/**
+ * Answers "can a target be reached with some number of moves" and "where is the closest cell towards it"
+ * Moves go along the avenue first and then along the street, the same as the old moveTo, a reachable target is moved onto
+ * and an unreachable one is moved towards with every move available
+ * The fewest moves to a target is its Manhattan distance, so every answer is worked out directly and nothing is kept
+ * One instance is shared by every robot
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadReachability {
+	private static final MoreheadReachability ARENA = new MoreheadReachability();
+
+	/**
+	 * Constructor method, use forArena
+	 */
+	private MoreheadReachability() {
+	}
+
+	/**
+	 * Gets the instance for the arena in BattleManager
+	 * @return the shared instance
+	 */
+	public static MoreheadReachability forArena() {
+		return ARENA;
+	}
+
+	/**
+	 * Finds how far to move along the avenue towards a target
+	 * @param dx - the target avenue minus the current avenue
+	 * @param dy - the target street minus the current street
+	 * @param moves - the number of moves available
+	 * @return the change in avenue
+	 */
+	public int getAvenueStep(int dx, int dy, int moves) {
+		return step(dx, Math.max(moves, 0));
+	}
+
+	/**
+	 * Finds how far to move along the street towards a target, after moving along the avenue
+	 * @param dx - the target avenue minus the current avenue
+	 * @param dy - the target street minus the current street
+	 * @param moves - the number of moves available
+	 * @return the change in street
+	 */
+	public int getStreetStep(int dx, int dy, int moves) {
+		moves = Math.max(moves, 0);
+		return step(dy, moves - Math.abs(step(dx, moves)));
+	}
+
+	/**
+	 * Checks whether a target can be reached, and so fought, this turn
+	 * @param dx - the target avenue minus the current avenue
+	 * @param dy - the target street minus the current street
+	 * @param moves - the number of moves available
+	 * @return whether the target is within the number of moves
+	 */
+	public boolean canReach(int dx, int dy, int moves) {
+		return Math.abs(dx) + Math.abs(dy) <= moves;
+	}
+
+	/**
+	 * Moves as far as possible towards a target along one direction
+	 * @param distance - the signed distance to the target
+	 * @param moves - the number of moves available
+	 * @return the signed change in location
+	 */
+	private static int step(int distance, int moves) {
+		if(distance < 0) {
+			return -Math.min(-distance, moves);
+		}
+
+		return Math.min(distance, moves);
+	}
+}
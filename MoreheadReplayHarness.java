@@ -0,0 +1,398 @@
+package summative;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import becker.robots.*;
+
+/**
+ * Replays recorded matches into two robot versions and counts how often their TurnRequests differ
+ * Every seat of a recorded match gets one baseline robot and one candidate robot, both are moved to the recorded location
+ * and given the recorded OppData, energy and battle results, so any difference comes from the robots' logic
+ * Replays are streamed one event at a time, so logs larger than memory can be compared
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadReplayHarness implements MoreheadReplayListener {
+	// Number of differences kept as examples
+	public static final int MAX_EXAMPLES = 20;
+
+	private MoreheadRobotFactory baseline;
+	private MoreheadRobotFactory candidate;
+
+	// Robots of the current match, indexed by seat
+	private FighterRobot [] baselineRobots;
+	private FighterRobot [] candidateRobots;
+	private long seed;
+	private City city;
+	private OppData [] data;
+
+	// Copy of the data handed to each robot, refilled every turn since robots may change the array they are given
+	private OppData [][] baselineData;
+	private OppData [][] candidateData;
+
+	// Direction of every robot at the start of the current match, null when the replay did not record it
+	private Direction [] directions;
+
+	// The candidate's request for each seat in the current round, used to compare with the recording
+	private TurnRequest [] candidateRequests;
+
+	private int matches;
+	private int round;
+	private long turns;
+	private long differentTurns;
+	private long differentMoves;
+	private long differentTargets;
+	private long differentRounds;
+	private long recordedTurns;
+	private long candidateMatchesRecording;
+	private List<String> examples;
+
+	/**
+	 * Constructor method
+	 * @param baseline - creates the robots the candidate is compared against, for example MoreheadFighterRobotV5::new
+	 * @param candidate - creates the robots being checked, for example MoreheadFighterRobotV6::new
+	 */
+	public MoreheadReplayHarness(MoreheadRobotFactory baseline, MoreheadRobotFactory candidate) {
+		this.baseline = baseline;
+		this.candidate = candidate;
+		this.examples = new ArrayList<String>();
+	}
+
+	/**
+	 * Compares V5 against V6 on every replay given and prints the results
+	 * @param args - the replay files
+	 * @throws IOException if a replay cannot be read
+	 */
+	public static void main(String [] args) throws IOException {
+		Path [] paths = new Path[args.length];
+
+		for(int i = 0; i < args.length; i++) {
+			paths[i] = Paths.get(args[i]);
+		}
+
+		System.out.print(compare(paths, MoreheadFighterRobotV5::new, MoreheadFighterRobotV6::new, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Compares two robot versions on many replays, each replay is streamed by its own harness on a separate thread
+	 * @param paths - the replay files
+	 * @param baseline - creates the robots the candidate is compared against
+	 * @param candidate - creates the robots being checked
+	 * @param parallelism - the number of replays read at the same time
+	 * @return the combined results
+	 * @throws IOException if a replay cannot be read
+	 */
+	public static MoreheadReplayHarness compare(Path [] paths, MoreheadRobotFactory baseline, MoreheadRobotFactory candidate, int parallelism) throws IOException {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		MoreheadReplayHarness [] results;
+
+		try {
+			results = pool.submit(() -> IntStream.range(0, paths.length).parallel().mapToObj(i -> runReplay(paths[i], baseline, candidate)).toArray(MoreheadReplayHarness[]::new)).get();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Comparing replays was interrupted", e);
+		} catch(ExecutionException e) {
+			if(e.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException)e.getCause()).getCause();
+			}
+
+			throw new IllegalStateException("A replay failed", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+
+		// Combined in file order so the examples are the same on every run
+		MoreheadReplayHarness total = new MoreheadReplayHarness(baseline, candidate);
+
+		for(MoreheadReplayHarness harness : results) {
+			total.add(harness);
+		}
+
+		return total;
+	}
+
+	/**
+	 * Streams one replay through a new harness
+	 * @param path - the replay file
+	 * @param baseline - creates the robots the candidate is compared against
+	 * @param candidate - creates the robots being checked
+	 * @return the results for that replay
+	 */
+	private static MoreheadReplayHarness runReplay(Path path, MoreheadRobotFactory baseline, MoreheadRobotFactory candidate) {
+		MoreheadReplayHarness harness = new MoreheadReplayHarness(baseline, candidate);
+
+		try {
+			harness.run(path);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return harness;
+	}
+
+	/**
+	 * Streams every match in a replay through the two robot versions
+	 * @param path - the replay file
+	 * @throws IOException if the replay cannot be read
+	 */
+	public void run(Path path) throws IOException {
+		try(MoreheadReplayReader reader = new MoreheadReplayReader(path)) {
+			reader.replay(this);
+		}
+	}
+
+	/**
+	 * Adds the results of another harness to this one
+	 * @param other - the other harness
+	 */
+	public void add(MoreheadReplayHarness other) {
+		this.matches += other.matches;
+		this.turns += other.turns;
+		this.differentTurns += other.differentTurns;
+		this.differentMoves += other.differentMoves;
+		this.differentTargets += other.differentTargets;
+		this.differentRounds += other.differentRounds;
+		this.recordedTurns += other.recordedTurns;
+		this.candidateMatchesRecording += other.candidateMatchesRecording;
+
+		for(int i = 0; i < other.examples.size() && this.examples.size() < MAX_EXAMPLES; i++) {
+			this.examples.add(other.examples.get(i));
+		}
+	}
+
+	public void matchStart(int numPlayers, long seed, Direction [] directions) {
+		// Robots are created on the first round, once their locations are known
+		this.baselineRobots = null;
+		this.candidateRobots = null;
+		this.candidateRequests = new TurnRequest[numPlayers];
+		this.data = new OppData[numPlayers];
+		this.baselineData = new OppData[numPlayers][numPlayers];
+		this.candidateData = new OppData[numPlayers][numPlayers];
+		this.seed = seed;
+		this.directions = directions;
+
+		City.showFrame(false);
+		this.city = new City();
+	}
+
+	public void round(int round, int [] avenues, int [] streets, int [] healths, int [] energies) {
+		int numPlayers = avenues.length;
+		this.round = round;
+
+		if(this.baselineRobots == null) {
+			this.createRobots(avenues, streets, healths);
+		}
+
+		for(int i = 0; i < numPlayers; i++) {
+			OppData known = this.data[i];
+
+			// OppData cannot be changed, so a seat only needs a new one when the robot moved or lost health
+			if(known == null || known.getAvenue() != avenues[i] || known.getStreet() != streets[i] || known.getHealth() != healths[i]) {
+				this.data[i] = new OppData(i, avenues[i], streets[i], healths[i]);
+			}
+
+			this.candidateRequests[i] = null;
+		}
+
+		for(int i = 0; i < numPlayers; i++) {
+			if(healths[i] <= 0) {
+				continue;
+			}
+
+			// Both robots start the turn where the recorded robot was
+			this.moveTo(this.baselineRobots[i], avenues[i], streets[i]);
+			this.moveTo(this.candidateRobots[i], avenues[i], streets[i]);
+
+			System.arraycopy(this.data, 0, this.baselineData[i], 0, numPlayers);
+			System.arraycopy(this.data, 0, this.candidateData[i], 0, numPlayers);
+
+			TurnRequest expected = this.baselineRobots[i].takeTurn(energies[i], this.baselineData[i]);
+			TurnRequest actual = this.candidateRobots[i].takeTurn(energies[i], this.candidateData[i]);
+
+			this.candidateRequests[i] = actual;
+			this.compareRequests(i, expected, actual);
+		}
+	}
+
+	public void request(int id, int avenue, int street, int fightID, int numRounds) {
+		TurnRequest actual = this.candidateRequests[id];
+
+		if(actual == null) {
+			return;
+		}
+
+		this.recordedTurns++;
+
+		if(actual.getEndAvenue() == avenue && actual.getEndStreet() == street && actual.getFightID() == fightID && actual.getNumRounds() == numRounds) {
+			this.candidateMatchesRecording++;
+		}
+	}
+
+	public void battle(int id, int healthLost, int oppID, int oppHealthLost, int numRoundsFought) {
+		// Both robots learn from the fight that really happened
+		this.baselineRobots[id].battleResult(healthLost, oppID, oppHealthLost, numRoundsFought);
+		this.candidateRobots[id].battleResult(healthLost, oppID, oppHealthLost, numRoundsFought);
+	}
+
+	public void matchEnd(int winnerID, int rounds) {
+		this.matches++;
+		this.baselineRobots = null;
+		this.candidateRobots = null;
+		this.city = null;
+	}
+
+	/**
+	 * Creates a baseline and a candidate robot for every seat, both given the random numbers the recorded robot had
+	 * @param avenues - the starting avenue of every robot
+	 * @param streets - the starting street of every robot
+	 * @param healths - the starting health of every robot
+	 */
+	private void createRobots(int [] avenues, int [] streets, int [] healths) {
+		int numPlayers = avenues.length;
+		this.baselineRobots = new FighterRobot[numPlayers];
+		this.candidateRobots = new FighterRobot[numPlayers];
+
+		// Each side repeats the headless manager's draws, so both get equal but separate generators
+		SplittableRandom [] baselineRandoms = this.drawSeatRandoms(numPlayers);
+		SplittableRandom [] candidateRandoms = this.drawSeatRandoms(numPlayers);
+
+		for(int i = 0; i < numPlayers; i++) {
+			this.baselineRobots[i] = this.createRobot(this.baseline, avenues[i], streets[i], i, healths[i], baselineRandoms[i]);
+			this.candidateRobots[i] = this.createRobot(this.candidate, avenues[i], streets[i], i, healths[i], candidateRandoms[i]);
+		}
+	}
+
+	/**
+	 * Draws the generator of every seat from the match seed the same way MoreheadHeadlessBattleManager does
+	 * @param numPlayers - the number of robots
+	 * @return the generator of every seat
+	 */
+	private SplittableRandom [] drawSeatRandoms(int numPlayers) {
+		SplittableRandom [] randoms = new SplittableRandom[numPlayers];
+		MoreheadHeadlessBattleManager.drawSeats(new SplittableRandom(this.seed), new int[numPlayers], new int[numPlayers], new Direction[numPlayers], randoms);
+		return randoms;
+	}
+
+	/**
+	 * Creates one robot
+	 * @param factory - creates the robot
+	 * @param a - the avenue of the robot
+	 * @param s - the street of the robot
+	 * @param id - the ID of the robot
+	 * @param health - the health of the robot
+	 * @param random - the generator for the robot's random choices
+	 * @return the robot
+	 */
+	private FighterRobot createRobot(MoreheadRobotFactory factory, int a, int s, int id, int health, SplittableRandom random) {
+		// Robots start facing the recorded way, since moves blocked by walls depend on it
+		Direction d = (this.directions == null) ? Direction.NORTH : this.directions[id];
+		FighterRobot robot = factory.create(this.city, a, s, d, id, health);
+		robot.setSpeed(MoreheadHeadlessBattleManager.HEADLESS_SPEED);
+
+		if(robot instanceof MoreheadSeedable) {
+			((MoreheadSeedable)robot).setRandom(random);
+		}
+
+		// Replays do not say which entrant sat in each seat, and knowledge saved by earlier replays would make turns depend
+		// on the order replays are read in, so replayed robots never use the knowledge store
+		if(robot instanceof MoreheadStrategyRobot && ((MoreheadStrategyRobot)robot).getStrategy() instanceof MoreheadModeStrategy) {
+			((MoreheadModeStrategy)((MoreheadStrategyRobot)robot).getStrategy()).setKnowledgeStore(null);
+		}
+
+		return robot;
+	}
+
+	/**
+	 * Moves a robot to a recorded location if it is not already there
+	 * @param robot - the robot
+	 * @param a - the recorded avenue
+	 * @param s - the recorded street
+	 */
+	private void moveTo(FighterRobot robot, int a, int s) {
+		if(robot.getAvenue() != a || robot.getStreet() != s) {
+			robot.goToLocation(a, s);
+		}
+	}
+
+	/**
+	 * Counts the ways two requests differ and keeps the first few differences as examples
+	 * @param id - the seat of the robots
+	 * @param expected - the baseline robot's request
+	 * @param actual - the candidate robot's request
+	 */
+	private void compareRequests(int id, TurnRequest expected, TurnRequest actual) {
+		this.turns++;
+
+		boolean move = expected.getEndAvenue() != actual.getEndAvenue() || expected.getEndStreet() != actual.getEndStreet();
+		boolean target = expected.getFightID() != actual.getFightID();
+		boolean rounds = expected.getNumRounds() != actual.getNumRounds();
+
+		if(!move && !target && !rounds) {
+			return;
+		}
+
+		this.differentTurns++;
+
+		if(move) {
+			this.differentMoves++;
+		}
+
+		if(target) {
+			this.differentTargets++;
+		}
+
+		if(rounds) {
+			this.differentRounds++;
+		}
+
+		if(this.examples.size() < MAX_EXAMPLES) {
+			this.examples.add(String.format("match %d round %d robot %d: baseline (%d, %d) fight %d x%d, candidate (%d, %d) fight %d x%d",
+					this.matches, this.round, id,
+					expected.getEndAvenue(), expected.getEndStreet(), expected.getFightID(), expected.getNumRounds(),
+					actual.getEndAvenue(), actual.getEndStreet(), actual.getFightID(), actual.getNumRounds()));
+		}
+	}
+
+	/**
+	 * Gets the number of turns compared
+	 * @return the number of turns
+	 */
+	public long getTurns() {
+		return this.turns;
+	}
+
+	/**
+	 * Gets the number of turns where the two versions asked for something different
+	 * @return the number of different turns
+	 */
+	public long getDifferentTurns() {
+		return this.differentTurns;
+	}
+
+	/**
+	 * Creates a summary of every difference found
+	 * @return the summary
+	 */
+	public String toString() {
+		StringBuilder summary = new StringBuilder();
+		summary.append(String.format("Matches: %d%nTurns compared: %d%n", this.matches, this.turns));
+		summary.append(String.format("Different turns: %d (%.2f%%)%n", this.differentTurns, (this.turns == 0) ? 0 : 100.0 * this.differentTurns / this.turns));
+		summary.append(String.format("  moves: %d, targets: %d, rounds: %d%n", this.differentMoves, this.differentTargets, this.differentRounds));
+		summary.append(String.format("Candidate same as recording: %d of %d%n", this.candidateMatchesRecording, this.recordedTurns));
+
+		for(String example : this.examples) {
+			summary.append(example).append(String.format("%n"));
+		}
+
+		return summary.toString();
+	}
+}
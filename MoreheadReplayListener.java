@@ -0,0 +1,56 @@
+package summative;
+
+import becker.robots.Direction;
+
+/**
+ * Receives the events of a replay in the order they happened
+ * Arrays given to round() are reused by the reader, so they should be copied if they are needed after the call
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public interface MoreheadReplayListener {
+	/**
+	 * Called at the start of a match
+	 * @param numPlayers - the number of robots
+	 * @param seed - the seed of the match
+	 * @param directions - the direction every robot faced at the start ordered by ID, null for replays that did not record it
+	 */
+	void matchStart(int numPlayers, long seed, Direction [] directions);
+
+	/**
+	 * Called at the start of a round with what every robot was given
+	 * @param round - the round number
+	 * @param avenues - the avenue of every robot, ordered by ID
+	 * @param streets - the street of every robot, ordered by ID
+	 * @param healths - the health of every robot, ordered by ID
+	 * @param energies - the energy of every robot, ordered by ID
+	 */
+	void round(int round, int [] avenues, int [] streets, int [] healths, int [] energies);
+
+	/**
+	 * Called for every TurnRequest
+	 * @param id - the ID of the robot
+	 * @param avenue - the requested avenue
+	 * @param street - the requested street
+	 * @param fightID - the ID of the opponent to fight, -1 for none
+	 * @param numRounds - the number of rounds to fight
+	 */
+	void request(int id, int avenue, int street, int fightID, int numRounds);
+
+	/**
+	 * Called for every battleResult call
+	 * @param id - the ID of the robot being told the result
+	 * @param healthLost - the health the robot lost
+	 * @param oppID - the ID of the opponent
+	 * @param oppHealthLost - the health the opponent lost
+	 * @param numRoundsFought - the number of rounds fought
+	 */
+	void battle(int id, int healthLost, int oppID, int oppHealthLost, int numRoundsFought);
+
+	/**
+	 * Called at the end of a match
+	 * @param winnerID - the ID of the winner, -1 for a draw
+	 * @param rounds - the number of rounds played
+	 */
+	void matchEnd(int winnerID, int rounds);
+}
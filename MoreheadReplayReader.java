@@ -0,0 +1,219 @@
+package summative;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import becker.robots.Direction;
+
+/**
+ * Reads a replay written by MoreheadReplayWriter one event at a time
+ * Only one window of the file is mapped at a time, so replays larger than memory can be read
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadReplayReader implements Closeable {
+	private FileChannel channel;
+	private long fileSize;
+	private MappedByteBuffer window;
+	private long windowStart;
+	private int version;
+
+	// Number of robots in the current match, needed to know how long a round is
+	private int numPlayers;
+	private int [] avenues;
+	private int [] streets;
+	private int [] healths;
+	private int [] energies;
+
+	/**
+	 * Constructor method
+	 * @param path - the replay file
+	 * @throws IOException if the file cannot be opened or is not a replay
+	 */
+	public MoreheadReplayReader(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		this.fileSize = this.channel.size();
+		this.mapWindow(0);
+
+		if(!this.ensure(8) || this.window.getInt() != MoreheadReplayWriter.MAGIC) {
+			throw new IOException(path + " is not a replay");
+		}
+
+		this.version = this.window.getInt();
+
+		// Version 1 files were cut down to the end of the replay, later files keep its length in the header
+		if(this.version >= 2 && this.version <= MoreheadReplayWriter.VERSION) {
+			if(!this.ensure(8)) {
+				throw new IOException(path + " is not a replay");
+			}
+
+			long length = this.window.getLong();
+
+			if(length > this.fileSize) {
+				throw new IOException("Replay is shorter than its header says");
+			}
+
+			if(length > 0) {
+				this.fileSize = length;
+			}
+		} else if(this.version != 1) {
+			throw new IOException("Unsupported replay version " + this.version);
+		}
+
+		this.setNumPlayers(0);
+	}
+
+	/**
+	 * Reads every remaining event and gives it to a listener
+	 * @param listener - receives the events
+	 * @throws IOException if the replay is cut off in the middle of an event or has an unknown event
+	 */
+	public void replay(MoreheadReplayListener listener) throws IOException {
+		while(this.next(listener)) {
+			// Every event is handled by next
+		}
+	}
+
+	/**
+	 * Reads the next event and gives it to a listener
+	 * @param listener - receives the event
+	 * @return false if there are no more events
+	 * @throws IOException if the replay is cut off in the middle of an event or has an unknown event
+	 */
+	public boolean next(MoreheadReplayListener listener) throws IOException {
+		if(!this.ensure(1)) {
+			return false;
+		}
+
+		byte type = this.window.get();
+
+		switch(type) {
+		case MoreheadReplayWriter.MATCH_START:
+			this.require(4 + 8);
+			this.setNumPlayers(this.window.getInt());
+			long seed = this.window.getLong();
+			Direction [] directions = null;
+
+			// Directions were only recorded from version 3
+			if(this.version >= 3) {
+				this.require(this.numPlayers);
+				directions = new Direction[this.numPlayers];
+
+				for(int i = 0; i < this.numPlayers; i++) {
+					int d = this.window.get();
+
+					if(d < 0 || d >= MoreheadReplayWriter.DIRECTIONS.length) {
+						throw new IOException("Unknown direction " + d + " in replay");
+					}
+
+					directions[i] = MoreheadReplayWriter.DIRECTIONS[d];
+				}
+			}
+
+			listener.matchStart(this.numPlayers, seed, directions);
+			break;
+
+		case MoreheadReplayWriter.ROUND:
+			this.require(4 + 16 * this.numPlayers);
+			int round = this.window.getInt();
+
+			for(int i = 0; i < this.numPlayers; i++) {
+				this.avenues[i] = this.window.getInt();
+				this.streets[i] = this.window.getInt();
+				this.healths[i] = this.window.getInt();
+				this.energies[i] = this.window.getInt();
+			}
+
+			listener.round(round, this.avenues, this.streets, this.healths, this.energies);
+			break;
+
+		case MoreheadReplayWriter.REQUEST:
+			this.require(5 * 4);
+			listener.request(this.window.getInt(), this.window.getInt(), this.window.getInt(), this.window.getInt(), this.window.getInt());
+			break;
+
+		case MoreheadReplayWriter.BATTLE:
+			this.require(5 * 4);
+			listener.battle(this.window.getInt(), this.window.getInt(), this.window.getInt(), this.window.getInt(), this.window.getInt());
+			break;
+
+		case MoreheadReplayWriter.MATCH_END:
+			this.require(2 * 4);
+			listener.matchEnd(this.window.getInt(), this.window.getInt());
+			break;
+
+		case 0:
+			// A writer that did not close leaves zeros at the end of the file
+			return false;
+
+		default:
+			throw new IOException("Unknown replay event " + type + " at byte " + (this.windowStart + this.window.position() - 1));
+		}
+
+		return true;
+	}
+
+	public void close() throws IOException {
+		this.window = null;
+		this.channel.close();
+	}
+
+	/**
+	 * Resizes the arrays used for rounds
+	 * @param numPlayers - the number of robots in the match
+	 */
+	private void setNumPlayers(int numPlayers) {
+		this.numPlayers = numPlayers;
+		this.avenues = new int[numPlayers];
+		this.streets = new int[numPlayers];
+		this.healths = new int[numPlayers];
+		this.energies = new int[numPlayers];
+	}
+
+	/**
+	 * Makes sure the rest of an event is in the file
+	 * @param bytes - the size of the rest of the event
+	 * @throws IOException if the file ends first
+	 */
+	private void require(int bytes) throws IOException {
+		if(!this.ensure(bytes)) {
+			throw new IOException("Replay ends in the middle of an event");
+		}
+	}
+
+	/**
+	 * Makes sure the current window has the next bytes of the file, mapping the next part of the file if it does not
+	 * @param bytes - the number of bytes needed
+	 * @return false if the file does not have that many bytes left
+	 * @throws IOException if the file cannot be mapped
+	 */
+	private boolean ensure(int bytes) throws IOException {
+		long position = this.windowStart + this.window.position();
+
+		if(position + bytes > this.fileSize) {
+			return false;
+		}
+
+		if(this.window.remaining() < bytes) {
+			this.mapWindow(position);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Maps part of the file starting at a position
+	 * @param start - the position in the file where the window starts
+	 * @throws IOException if the file cannot be mapped
+	 */
+	private void mapWindow(long start) throws IOException {
+		long size = Math.min(Math.max(MoreheadReplayWriter.WINDOW_SIZE, 1 + 4 + 16L * this.numPlayers), this.fileSize - start);
+
+		this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+		this.windowStart = start;
+	}
+}
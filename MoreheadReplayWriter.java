@@ -0,0 +1,235 @@
+package summative;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import becker.robots.Direction;
+
+/**
+ * Writes a compact binary log of a match so that it can be replayed exactly
+ * Events are put straight into a memory-mapped window of the file, when the window is full the next part of the file is mapped
+ * The file is never cut down while it is mapped, which Windows does not allow, so the end of the replay is kept in the header
+ *
+ * File format, every number is a big-endian int unless stated otherwise:
+ * header: MAGIC, VERSION, length of the replay in bytes (long, 0 until the writer is closed)
+ * MATCH_START: type byte, numPlayers, seed (long), then the starting direction of every robot as an index into DIRECTIONS (byte)
+ * ROUND: type byte, round, then numPlayers times (avenue, street, health, energy) ordered by ID
+ * REQUEST: type byte, id, avenue, street, fightID, numRounds
+ * BATTLE: type byte, id, healthLost, oppID, oppHealthLost, numRoundsFought
+ * MATCH_END: type byte, winnerID, rounds
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadReplayWriter implements Closeable {
+	public static final int MAGIC = 0x4D485250;
+	public static final int VERSION = 3;
+
+	// Directions a robot can face, recorded by their index
+	public static final Direction [] DIRECTIONS = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST};
+
+	// Position of the length in the header, and the size of the header
+	public static final int LENGTH_OFFSET = 8;
+	public static final int HEADER_SIZE = 16;
+
+	// Record types
+	public static final byte MATCH_START = 1;
+	public static final byte ROUND = 2;
+	public static final byte REQUEST = 3;
+	public static final byte BATTLE = 4;
+	public static final byte MATCH_END = 5;
+
+	// Size of each mapped part of the file
+	public static final int WINDOW_SIZE = 1 << 20;
+
+	private FileChannel channel;
+	private MappedByteBuffer header;
+	private MappedByteBuffer window;
+	private long windowStart;
+
+	/**
+	 * Constructor method, replaces any file already at the path
+	 * @param path - where the replay is written
+	 * @throws IOException if the file cannot be opened
+	 */
+	public MoreheadReplayWriter(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.header = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+		this.header.putInt(0, MAGIC);
+		this.header.putInt(4, VERSION);
+		this.header.putLong(LENGTH_OFFSET, 0);
+
+		this.mapWindow(HEADER_SIZE, WINDOW_SIZE);
+	}
+
+	/**
+	 * Records the start of a match
+	 * @param numPlayers - the number of robots
+	 * @param seed - the seed of the match
+	 * @param directions - the direction every robot faces at the start, ordered by ID
+	 */
+	public void matchStart(int numPlayers, long seed, Direction [] directions) {
+		this.ensure(1 + 4 + 8 + numPlayers);
+
+		this.window.put(MATCH_START);
+		this.window.putInt(numPlayers);
+		this.window.putLong(seed);
+
+		for(int i = 0; i < numPlayers; i++) {
+			this.window.put(indexOf(directions[i]));
+		}
+	}
+
+	/**
+	 * Finds the index a direction is recorded as
+	 * @param direction - the direction
+	 * @return the index in DIRECTIONS
+	 */
+	private static byte indexOf(Direction direction) {
+		for(byte d = 0; d < DIRECTIONS.length; d++) {
+			if(DIRECTIONS[d] == direction) {
+				return d;
+			}
+		}
+
+		throw new IllegalArgumentException("Robots cannot start facing " + direction);
+	}
+
+	/**
+	 * Records what every robot was given at the start of a round
+	 * @param round - the round number
+	 * @param data - the OppData of every robot, ordered by ID
+	 * @param energy - the energy of every robot, ordered by ID
+	 */
+	public void round(int round, OppData [] data, int [] energy) {
+		this.ensure(1 + 4 + 16 * data.length);
+
+		this.window.put(ROUND);
+		this.window.putInt(round);
+
+		for(int i = 0; i < data.length; i++) {
+			this.window.putInt(data[i].getAvenue());
+			this.window.putInt(data[i].getStreet());
+			this.window.putInt(data[i].getHealth());
+			this.window.putInt(energy[i]);
+		}
+	}
+
+	/**
+	 * Records what every robot was given at the start of a round, read straight from the round's snapshot
+	 * The headless arena records every round, so this does not make an OppData for every robot
+	 * @param round - the round number
+	 * @param snapshot - the snapshot of the round, indexed by ID
+	 * @param energy - the energy of every robot, ordered by ID
+	 */
+	public void round(int round, MoreheadArenaSnapshot snapshot, int [] energy) {
+		this.ensure(1 + 4 + 16 * snapshot.size());
+
+		this.window.put(ROUND);
+		this.window.putInt(round);
+
+		for(int i = 0; i < snapshot.size(); i++) {
+			this.window.putInt(snapshot.getAvenue(i));
+			this.window.putInt(snapshot.getStreet(i));
+			this.window.putInt(snapshot.getHealth(i));
+			this.window.putInt(energy[i]);
+		}
+	}
+
+	/**
+	 * Records the TurnRequest of a robot
+	 * @param id - the ID of the robot
+	 * @param avenue - the requested avenue
+	 * @param street - the requested street
+	 * @param fightID - the ID of the opponent to fight, -1 for none
+	 * @param numRounds - the number of rounds to fight
+	 */
+	public void request(int id, int avenue, int street, int fightID, int numRounds) {
+		this.ensure(1 + 5 * 4);
+
+		this.window.put(REQUEST);
+		this.window.putInt(id);
+		this.window.putInt(avenue);
+		this.window.putInt(street);
+		this.window.putInt(fightID);
+		this.window.putInt(numRounds);
+	}
+
+	/**
+	 * Records a battleResult call
+	 * @param id - the ID of the robot being told the result
+	 * @param healthLost - the health the robot lost
+	 * @param oppID - the ID of the opponent
+	 * @param oppHealthLost - the health the opponent lost
+	 * @param numRoundsFought - the number of rounds fought
+	 */
+	public void battle(int id, int healthLost, int oppID, int oppHealthLost, int numRoundsFought) {
+		this.ensure(1 + 5 * 4);
+
+		this.window.put(BATTLE);
+		this.window.putInt(id);
+		this.window.putInt(healthLost);
+		this.window.putInt(oppID);
+		this.window.putInt(oppHealthLost);
+		this.window.putInt(numRoundsFought);
+	}
+
+	/**
+	 * Records the end of a match
+	 * @param winnerID - the ID of the winner, -1 for a draw
+	 * @param rounds - the number of rounds played
+	 */
+	public void matchEnd(int winnerID, int rounds) {
+		this.ensure(1 + 2 * 4);
+
+		this.window.put(MATCH_END);
+		this.window.putInt(winnerID);
+		this.window.putInt(rounds);
+	}
+
+	/**
+	 * Flushes the replay and writes its length in the header, anything after that length is unused room in the last window
+	 * @throws IOException if the file cannot be written
+	 */
+	public void close() throws IOException {
+		long length = this.windowStart + this.window.position();
+
+		this.window.force();
+		this.window = null;
+
+		// Written last so that a replay that was not closed has a length of 0 and is read up to its first unwritten byte
+		this.header.putLong(LENGTH_OFFSET, length);
+		this.header.force();
+		this.header = null;
+
+		this.channel.close();
+	}
+
+	/**
+	 * Makes sure the current window has room for a record, mapping the next part of the file if it does not
+	 * @param bytes - the size of the record
+	 */
+	private void ensure(int bytes) {
+		if(this.window.remaining() < bytes) {
+			this.mapWindow(this.windowStart + this.window.position(), Math.max(WINDOW_SIZE, bytes));
+		}
+	}
+
+	/**
+	 * Maps part of the file
+	 * @param start - the position in the file where the window starts
+	 * @param size - the size of the window
+	 */
+	private void mapWindow(long start, int size) {
+		try {
+			this.window = this.channel.map(FileChannel.MapMode.READ_WRITE, start, size);
+			this.windowStart = start;
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
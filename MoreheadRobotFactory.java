@@ -0,0 +1,23 @@
+package summative;
+
+import becker.robots.*;
+
+/**
+ * Creates a FighterRobot for an arena, lets the headless battle manager build any robot version
+ * Matches the constructor of every Morehead robot, so MoreheadFighterRobotV6::new can be used directly
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public interface MoreheadRobotFactory {
+	/**
+	 * Creates a new robot
+	 * @param c - the City of the FighterRobot
+	 * @param a - the avenue of the FighterRobot
+	 * @param s - the street of the FighterRobot
+	 * @param d - the Direction of the FighterRobot
+	 * @param id - the ID of the FighterRobot
+	 * @param health - the health of the FighterRobot
+	 * @return the new robot
+	 */
+	FighterRobot create(City c, int a, int s, Direction d, int id, int health);
+}
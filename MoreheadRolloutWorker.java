@@ -0,0 +1,145 @@
+package summative;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays random rollouts for MoreheadMonteCarloPlanner on one thread
+ * Every worker keeps its own state, action lists, totals and random numbers, so rollouts share nothing but the root state
+ * and nothing is allocated once the worker is made
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadRolloutWorker {
+	// Deadline of rollouts that only stop after their number
+	public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+	private SplittableRandom generator;
+	private MoreheadReachability reachability;
+	private MoreheadArenaState state;
+
+	// Actions of the turns after the first, chosen at random
+	private int [] actionAve;
+	private int [] actionStr;
+	private int [] actionTarget;
+
+	// Sum of the final values and number of rollouts of every candidate
+	private double [] totals;
+	private int [] counts;
+
+	/**
+	 * Constructor method
+	 * @param generator - random numbers only used by this worker
+	 * @param capacity - the largest number of opponents
+	 * @param branching - the number of closest opponents considered on each turn
+	 * @param maxCandidates - the largest number of candidates
+	 */
+	public MoreheadRolloutWorker(SplittableRandom generator, int capacity, int branching, int maxCandidates) {
+		this.generator = generator;
+		this.reachability = MoreheadReachability.forArena();
+		this.state = new MoreheadArenaState(capacity);
+		this.actionAve = new int[branching + 1];
+		this.actionStr = new int[branching + 1];
+		this.actionTarget = new int[branching + 1];
+		this.totals = new double[maxCandidates];
+		this.counts = new int[maxCandidates];
+	}
+
+	/**
+	 * Plays this worker's share of the rollouts, taking every step-th rollout starting from first
+	 * The first rollout of every candidate is always played, the rest stop at the deadline if there is one
+	 * @param root - the state at the start of the turn, only read
+	 * @param candidateAve - the avenue of every candidate
+	 * @param candidateStr - the street of every candidate
+	 * @param candidateTarget - the opponent fought by every candidate, -1 for none
+	 * @param numCandidates - the number of candidates
+	 * @param first - the first rollout of this worker
+	 * @param step - the number of workers
+	 * @param maxRollouts - the number of rollouts in the turn
+	 * @param depth - the number of turns in each rollout
+	 * @param deadline - System.nanoTime() at which rollouts stop, NO_DEADLINE to play all of them
+	 */
+	public void run(MoreheadArenaState root, int [] candidateAve, int [] candidateStr, int [] candidateTarget, int numCandidates, int first, int step, int maxRollouts, int depth, long deadline) {
+		for(int c = 0; c < numCandidates; c++) {
+			this.totals[c] = 0;
+			this.counts[c] = 0;
+		}
+
+		for(int k = first; k < maxRollouts; k += step) {
+			if(k >= numCandidates && deadline != NO_DEADLINE && System.nanoTime() > deadline) {
+				break;
+			}
+
+			int c = k % numCandidates;
+
+			this.totals[c] += this.rollout(root, candidateAve[c], candidateStr[c], candidateTarget[c], depth);
+			this.counts[c]++;
+		}
+	}
+
+	/**
+	 * Plays one candidate and then random actions until the depth is reached or this robot dies
+	 * @param root - the state at the start of the turn
+	 * @param ave - the avenue of the candidate
+	 * @param str - the street of the candidate
+	 * @param target - the opponent fought by the candidate, -1 for none
+	 * @param depth - the number of turns in the rollout
+	 * @return the value of the final state
+	 */
+	private double rollout(MoreheadArenaState root, int ave, int str, int target, int depth) {
+		this.state.copyFrom(root);
+		this.play(ave, str, target);
+
+		for(int turn = 1; turn < depth && this.state.getSelfHealth() > 0; turn++) {
+			int count = this.state.listActions(this.reachability, this.actionAve, this.actionStr, this.actionTarget);
+			int a = this.generator.nextInt(count);
+
+			this.play(this.actionAve[a], this.actionStr[a], this.actionTarget[a]);
+		}
+
+		return this.state.evaluate();
+	}
+
+	/**
+	 * Plays one turn of the rollout
+	 * @param ave - the avenue to move to
+	 * @param str - the street to move to
+	 * @param target - the opponent to fight, -1 for none
+	 */
+	private void play(int ave, int str, int target) {
+		this.state.moveSelf(ave, str);
+
+		// The chased opponent may have moved away
+		if(target != -1 && this.generator.nextDouble() < MoreheadArenaState.STAY_CHANCE) {
+			this.state.fightRolled(target, this.generator);
+		}
+
+		this.state.takeThreatsRolled(this.generator);
+		this.state.regenerate();
+	}
+
+	/**
+	 * Gets the sum of the final values of a candidate's rollouts
+	 * @param candidate - the index of the candidate
+	 * @return the total from the last run
+	 */
+	public double getTotal(int candidate) {
+		return this.totals[candidate];
+	}
+
+	/**
+	 * Gets the number of rollouts played for a candidate
+	 * @param candidate - the index of the candidate
+	 * @return the count from the last run
+	 */
+	public int getCount(int candidate) {
+		return this.counts[candidate];
+	}
+
+	/**
+	 * Gets the largest number of opponents
+	 * @return the capacity of the worker's state
+	 */
+	public int capacity() {
+		return this.state.capacity();
+	}
+}
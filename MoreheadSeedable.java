@@ -0,0 +1,17 @@
+package summative;
+
+import java.util.SplittableRandom;
+
+/**
+ * A robot that makes random choices and can be given its random number generator
+ * Giving every robot a generator split from the match seed makes a match play out the same way every time
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public interface MoreheadSeedable {
+	/**
+	 * Replaces the random number generator of this robot
+	 * @param generator - the generator, only used by this robot
+	 */
+	void setRandom(SplittableRandom generator);
+}
@@ -0,0 +1,306 @@
+package summative;
+
+/**
+ * Groups the live opponents of an opponent table into square buckets of the arena, so that nearby opponents are found
+ * without measuring the distance to every opponent
+ * Each bucket is a linked list of table rows, a row only moves between lists when its opponent changes bucket or dies
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadSpatialIndex {
+	private int bucketSize;
+	private int bucketsWide;
+	private int bucketsHigh;
+
+	// First row of every bucket, -1 when it is empty
+	private int [] head;
+
+	// Neighbours of every row in its bucket and the bucket it is in, -1 when the row is not indexed
+	private int [] next;
+	private int [] prev;
+	private int [] bucketOf;
+	private MoreheadOpponentTable source;
+
+	// Candidates kept while searching, sorted by distance and then by row
+	private int [] foundRows;
+	private int [] foundDistances;
+
+	/**
+	 * Constructor method
+	 * @param width - the number of avenues in the arena
+	 * @param height - the number of streets in the arena
+	 * @param bucketSize - the width and height of each bucket
+	 */
+	public MoreheadSpatialIndex(int width, int height, int bucketSize) {
+		this.bucketSize = bucketSize;
+		this.bucketsWide = (width + bucketSize - 1) / bucketSize;
+		this.bucketsHigh = (height + bucketSize - 1) / bucketSize;
+		this.head = new int[this.bucketsWide * this.bucketsHigh];
+		this.next = new int[0];
+		this.prev = new int[0];
+		this.bucketOf = new int[0];
+		this.foundRows = new int[0];
+		this.foundDistances = new int[0];
+	}
+
+	/**
+	 * Brings the index up to date with the opponent table, must be called before the first search
+	 * @param opponents - the opponent table
+	 */
+	public void update(MoreheadOpponentTable opponents) {
+		// A new table means the rows no longer match, so the index starts over
+		if(opponents != this.source) {
+			this.source = opponents;
+			this.next = new int[opponents.size()];
+			this.prev = new int[opponents.size()];
+			this.bucketOf = new int[opponents.size()];
+			this.foundRows = new int[opponents.size()];
+			this.foundDistances = new int[opponents.size()];
+
+			for(int i = 0; i < this.head.length; i++) {
+				this.head[i] = -1;
+			}
+
+			for(int i = 0; i < this.bucketOf.length; i++) {
+				this.bucketOf[i] = -1;
+			}
+		}
+
+		int [] ids = opponents.getIDs();
+		int [] avenues = opponents.getAvenues();
+		int [] streets = opponents.getStreets();
+		int [] healths = opponents.getHealths();
+
+		for(int i = 0; i < ids.length; i++) {
+			int bucket = -1;
+
+			// Only live opponents that have been seen are indexed
+			if(ids[i] != -1 && healths[i] > 0) {
+				bucket = this.bucketAt(avenues[i], streets[i]);
+			}
+
+			if(bucket != this.bucketOf[i]) {
+				this.unlink(i);
+				this.link(i, bucket);
+			}
+		}
+	}
+
+	/**
+	 * Adds a row to the front of a bucket
+	 * @param row - the row of the opponent
+	 * @param bucket - the bucket, -1 to leave the row out of the index
+	 */
+	private void link(int row, int bucket) {
+		this.bucketOf[row] = bucket;
+
+		if(bucket == -1) {
+			return;
+		}
+
+		this.prev[row] = -1;
+		this.next[row] = this.head[bucket];
+
+		if(this.head[bucket] != -1) {
+			this.prev[this.head[bucket]] = row;
+		}
+
+		this.head[bucket] = row;
+	}
+
+	/**
+	 * Takes a row out of its bucket
+	 * @param row - the row of the opponent
+	 */
+	private void unlink(int row) {
+		int bucket = this.bucketOf[row];
+
+		if(bucket == -1) {
+			return;
+		}
+
+		if(this.prev[row] != -1) {
+			this.next[this.prev[row]] = this.next[row];
+		} else {
+			this.head[bucket] = this.next[row];
+		}
+
+		if(this.next[row] != -1) {
+			this.prev[this.next[row]] = this.prev[row];
+		}
+
+		this.bucketOf[row] = -1;
+	}
+
+	/**
+	 * Finds the live opponent closest to a location
+	 * @param ave - the avenue of the location
+	 * @param str - the street of the location
+	 * @param excludeID - an ID that is skipped, usually the robot searching
+	 * @return the row of the closest opponent, ties go to the lower row, -1 if there is none
+	 */
+	public int nearest(int ave, int str, int excludeID) {
+		return (this.kNearest(ave, str, 1, excludeID, this.foundRows) == 1) ? this.foundRows[0] : -1;
+	}
+
+	/**
+	 * Finds the live opponents closest to a location, searching buckets in rings around it
+	 * @param ave - the avenue of the location
+	 * @param str - the street of the location
+	 * @param k - the largest number of opponents to find
+	 * @param excludeID - an ID that is skipped, usually the robot searching
+	 * @param rows - filled with the rows of the opponents, closest first and ties by lower row
+	 * @return the number of rows found
+	 */
+	public int kNearest(int ave, int str, int k, int excludeID, int [] rows) {
+		k = Math.min(k, this.foundRows.length);
+
+		if(k <= 0) {
+			return 0;
+		}
+
+		int count = 0;
+		int centreX = this.bucketColumn(ave);
+		int centreY = this.bucketRow(str);
+		int maxRing = Math.max(Math.max(centreX, this.bucketsWide - 1 - centreX), Math.max(centreY, this.bucketsHigh - 1 - centreY));
+
+		for(int ring = 0; ring <= maxRing; ring++) {
+			count = this.searchRing(ave, str, centreX, centreY, ring, Integer.MAX_VALUE, k, excludeID, count);
+
+			// Anything in a further ring is more than ring * bucketSize moves away, so the closest k are known
+			if(count == k && this.foundDistances[k - 1] <= ring * this.bucketSize) {
+				break;
+			}
+		}
+
+		System.arraycopy(this.foundRows, 0, rows, 0, count);
+		return count;
+	}
+
+	/**
+	 * Finds every live opponent within a number of moves of a location
+	 * @param ave - the avenue of the location
+	 * @param str - the street of the location
+	 * @param radius - the largest number of moves
+	 * @param excludeID - an ID that is skipped, usually the robot searching
+	 * @param rows - filled with the rows of the opponents, closest first and ties by lower row
+	 * @return the number of rows found
+	 */
+	public int range(int ave, int str, int radius, int excludeID, int [] rows) {
+		int count = 0;
+		int centreX = this.bucketColumn(ave);
+		int centreY = this.bucketRow(str);
+		int maxRing = radius / this.bucketSize + 1;
+
+		for(int ring = 0; ring <= maxRing; ring++) {
+			count = this.searchRing(ave, str, centreX, centreY, ring, radius, this.foundRows.length, excludeID, count);
+		}
+
+		System.arraycopy(this.foundRows, 0, rows, 0, count);
+		return count;
+	}
+
+	/**
+	 * Adds the opponents in one ring of buckets to the sorted candidates
+	 * @param ave - the avenue of the location
+	 * @param str - the street of the location
+	 * @param centreX - the bucket column of the location
+	 * @param centreY - the bucket row of the location
+	 * @param ring - how many buckets out the ring is
+	 * @param radius - opponents further than this are skipped
+	 * @param k - the largest number of candidates kept
+	 * @param excludeID - an ID that is skipped
+	 * @param count - the number of candidates so far
+	 * @return the new number of candidates
+	 */
+	private int searchRing(int ave, int str, int centreX, int centreY, int ring, int radius, int k, int excludeID, int count) {
+		int [] ids = this.source.getIDs();
+		int [] avenues = this.source.getAvenues();
+		int [] streets = this.source.getStreets();
+
+		for(int by = centreY - ring; by <= centreY + ring; by++) {
+			if(by < 0 || by >= this.bucketsHigh) {
+				continue;
+			}
+
+			// Rows between the top and bottom of the ring only have the two buckets on its sides
+			int step = (by == centreY - ring || by == centreY + ring) ? 1 : Math.max(2 * ring, 1);
+
+			for(int bx = centreX - ring; bx <= centreX + ring; bx += step) {
+				if(bx < 0 || bx >= this.bucketsWide) {
+					continue;
+				}
+
+				for(int row = this.head[by * this.bucketsWide + bx]; row != -1; row = this.next[row]) {
+					int distance = Math.abs(avenues[row] - ave) + Math.abs(streets[row] - str);
+
+					if(ids[row] != excludeID && distance <= radius) {
+						count = this.insert(row, distance, k, count);
+					}
+				}
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Adds a candidate in sorted order, dropping the furthest if there are more than k
+	 * @param row - the row of the opponent
+	 * @param distance - the distance to the opponent
+	 * @param k - the largest number of candidates kept
+	 * @param count - the number of candidates so far
+	 * @return the new number of candidates
+	 */
+	private int insert(int row, int distance, int k, int count) {
+		int position = count;
+
+		while(position > 0 && (this.foundDistances[position - 1] > distance || (this.foundDistances[position - 1] == distance && this.foundRows[position - 1] > row))) {
+			position--;
+		}
+
+		if(position >= k) {
+			return count;
+		}
+
+		int last = Math.min(count, k - 1);
+
+		for(int j = last; j > position; j--) {
+			this.foundRows[j] = this.foundRows[j - 1];
+			this.foundDistances[j] = this.foundDistances[j - 1];
+		}
+
+		this.foundRows[position] = row;
+		this.foundDistances[position] = distance;
+
+		return Math.min(count + 1, k);
+	}
+
+	/**
+	 * Finds the bucket of a location
+	 * @param ave - the avenue
+	 * @param str - the street
+	 * @return the bucket, locations outside the arena go to the closest bucket
+	 */
+	private int bucketAt(int ave, int str) {
+		return this.bucketRow(str) * this.bucketsWide + this.bucketColumn(ave);
+	}
+
+	/**
+	 * Finds the bucket column of an avenue
+	 * @param ave - the avenue
+	 * @return the column, kept inside the arena
+	 */
+	private int bucketColumn(int ave) {
+		return Math.max(0, Math.min(this.bucketsWide - 1, ave / this.bucketSize));
+	}
+
+	/**
+	 * Finds the bucket row of a street
+	 * @param str - the street
+	 * @return the row, kept inside the arena
+	 */
+	private int bucketRow(int str) {
+		return Math.max(0, Math.min(this.bucketsHigh - 1, str / this.bucketSize));
+	}
+}
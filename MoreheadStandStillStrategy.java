@@ -0,0 +1,64 @@
+package summative;
+
+/**
+ * Strategy of the V0 dummy robots, never moves
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadStandStillStrategy implements MoreheadStrategy {
+	private String name;
+	private boolean fightsOnSameCell;
+
+	// Where every robot is, so that the location only needs to be searched when someone else is on it
+	private MoreheadOccupancyGrid grid;
+
+	/**
+	 * Constructor method
+	 * @param name - the name of the strategy
+	 * @param fightsOnSameCell - whether the robot fights opponents that move onto its location
+	 */
+	public MoreheadStandStillStrategy(String name, boolean fightsOnSameCell) {
+		this.name = name;
+		this.fightsOnSameCell = fightsOnSameCell;
+		this.grid = new MoreheadOccupancyGrid(BattleManager.WIDTH, BattleManager.HEIGHT);
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Stays in place, fighting the last opponent found on the same location if it fights back
+	 */
+	public int takeTurn(MoreheadStrategyRobot robot, MoreheadArenaView view, int [] request) {
+		int fightingID = -1;
+
+		if(this.fightsOnSameCell) {
+			this.grid.update(view);
+		}
+
+		// This robot is one of the robots on its location, so there is only someone to fight if there are two or more
+		if(this.fightsOnSameCell && this.grid.getOccupants(robot.getAvenue(), robot.getStreet()) > 1) {
+			for(int i = 0; i < view.size(); i++) {
+				if(view.getStreet(i) == robot.getStreet() && view.getAvenue(i) == robot.getAvenue()) {
+					if(view.getID(i) != robot.getID()) {
+						fightingID = view.getID(i);
+					}
+				}
+			}
+		}
+
+		request[0] = robot.getAvenue();
+		request[1] = robot.getStreet();
+		request[2] = fightingID;
+
+		return MoreheadTurnStats.ATTACK;
+	}
+
+	/**
+	 * Dummy robots do not learn from battles
+	 */
+	public void battleResult(MoreheadStrategyRobot robot, int healthLost, int oppID, int oppHealthLost, int numRoundsFought) {
+		// Stub
+	}
+}
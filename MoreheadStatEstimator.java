@@ -0,0 +1,269 @@
+package summative;
+
+/**
+ * Works out the likely stats of every opponent from what it does, instead of keeping the largest value seen
+ * Every robot splits 10 points between attack, defense and agility with at least 1 in each, so there are 36 possible
+ * allocations, and each opponent keeps the log probability of every one of them
+ * Moves, the number of rounds it attacks for and the rounds it wins or loses each update those probabilities with a
+ * likelihood looked up in a table made when the estimator is created, so every observation costs the same small amount
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadStatEstimator {
+	public static final int TOTAL_STATS = 10;
+	public static final int NUM_ALLOCATIONS = 36;
+
+	// Chance of seeing something an allocation does not allow, so that one odd observation does not rule it out forever
+	public static final double NOISE = 0.001;
+
+	// Chance that an attack ends before all of its rounds, which only happens when one of the robots dies
+	public static final double SHORT_FIGHT = 0.1;
+
+	// How much a prior from an earlier match counts compared to what is seen in this one
+	public static final double PRIOR_WEIGHT = 0.5;
+
+	// Moves longer than this are looked up as this
+	private static final int MAX_MOVE = TOTAL_STATS;
+
+	// Attack, defense and agility of every allocation
+	private static final int [] ATTACK = new int[NUM_ALLOCATIONS];
+	private static final int [] DEFENSE = new int[NUM_ALLOCATIONS];
+	private static final int [] AGILITY = new int[NUM_ALLOCATIONS];
+
+	static {
+		int k = 0;
+
+		for(int attack = 1; attack <= TOTAL_STATS - 2; attack++) {
+			for(int agility = 1; agility <= TOTAL_STATS - 1 - attack; agility++) {
+				ATTACK[k] = attack;
+				AGILITY[k] = agility;
+				DEFENSE[k] = TOTAL_STATS - attack - agility;
+				k++;
+			}
+		}
+	}
+
+	// Log likelihood of a move of each length, indexed by [distance][allocation]
+	private static final double [][] MOVE_LIKELIHOOD = new double[MAX_MOVE + 1][NUM_ALLOCATIONS];
+
+	// Log likelihood of an attack lasting each number of rounds, indexed by [rounds][allocation]
+	private static final double [][] ROUNDS_LIKELIHOOD = new double[TOTAL_STATS + 1][NUM_ALLOCATIONS];
+
+	static {
+		for(int k = 0; k < NUM_ALLOCATIONS; k++) {
+			// A robot can move anywhere from 0 to its agility, energy decides how far
+			for(int distance = 0; distance <= MAX_MOVE; distance++) {
+				MOVE_LIKELIHOOD[distance][k] = Math.log((distance <= AGILITY[k]) ? (1 - NOISE) / (AGILITY[k] + 1) : NOISE);
+			}
+
+			// An attack lasts as many rounds as the attacker's attack unless someone dies first
+			for(int rounds = 0; rounds <= TOTAL_STATS; rounds++) {
+				if(rounds == ATTACK[k]) {
+					ROUNDS_LIKELIHOOD[rounds][k] = Math.log(1 - SHORT_FIGHT);
+				} else if(rounds < ATTACK[k]) {
+					ROUNDS_LIKELIHOOD[rounds][k] = Math.log(SHORT_FIGHT / ATTACK[k]);
+				} else {
+					ROUNDS_LIKELIHOOD[rounds][k] = Math.log(NOISE);
+				}
+			}
+		}
+	}
+
+	// Log probability of winning and losing a round for each allocation, when this robot attacks and when it is attacked
+	private double [] logWinAttacking;
+	private double [] logLoseAttacking;
+	private double [] logWinDefending;
+	private double [] logLoseDefending;
+
+	// Log posterior of every allocation, indexed by [slot][allocation]
+	private double [][] posterior;
+
+	// Summary of each posterior, updated after every observation
+	private double [] expectedAttack;
+	private double [] expectedDefense;
+	private double [] expectedAgility;
+	private double [] confidence;
+
+	/**
+	 * Constructor method, every allocation starts equally likely
+	 * @param numOpponents - the number of rows in the opponent table
+	 * @param selfAttack - the attack of the robot using the estimator
+	 * @param selfDefense - the defense of the robot using the estimator
+	 */
+	public MoreheadStatEstimator(int numOpponents, int selfAttack, int selfDefense) {
+		this.logWinAttacking = new double[NUM_ALLOCATIONS];
+		this.logLoseAttacking = new double[NUM_ALLOCATIONS];
+		this.logWinDefending = new double[NUM_ALLOCATIONS];
+		this.logLoseDefending = new double[NUM_ALLOCATIONS];
+
+		// Each round the attacker wins with a chance of attack / (attack + defense)
+		for(int k = 0; k < NUM_ALLOCATIONS; k++) {
+			double attacking = (double)selfAttack / (selfAttack + DEFENSE[k]);
+			double defending = (double)ATTACK[k] / (ATTACK[k] + selfDefense);
+
+			this.logWinAttacking[k] = Math.log(Math.max(attacking, NOISE));
+			this.logLoseAttacking[k] = Math.log(Math.max(1 - attacking, NOISE));
+			this.logWinDefending[k] = Math.log(Math.max(1 - defending, NOISE));
+			this.logLoseDefending[k] = Math.log(Math.max(defending, NOISE));
+		}
+
+		this.posterior = new double[numOpponents][NUM_ALLOCATIONS];
+		this.expectedAttack = new double[numOpponents];
+		this.expectedDefense = new double[numOpponents];
+		this.expectedAgility = new double[numOpponents];
+		this.confidence = new double[numOpponents];
+
+		for(int slot = 0; slot < numOpponents; slot++) {
+			this.summarize(slot);
+		}
+	}
+
+	/**
+	 * Updates an opponent's stats from how far it moved in one turn
+	 * @param slot - the row of the opponent
+	 * @param distance - the number of moves between its last two locations
+	 */
+	public void observeMove(int slot, int distance) {
+		double [] likelihood = MOVE_LIKELIHOOD[Math.max(0, Math.min(distance, MAX_MOVE))];
+		double [] posterior = this.posterior[slot];
+
+		for(int k = 0; k < NUM_ALLOCATIONS; k++) {
+			posterior[k] += likelihood[k];
+		}
+
+		this.summarize(slot);
+	}
+
+	/**
+	 * Updates an opponent's stats from a fight with it
+	 * @param slot - the row of the opponent
+	 * @param healthLost - health this robot lost in the fight
+	 * @param oppHealthLost - health the opponent lost in the fight
+	 * @param numRounds - the number of rounds fought
+	 * @param selfAttacking - whether this robot attacked, otherwise the opponent attacked it
+	 */
+	public void observeFight(int slot, int healthLost, int oppHealthLost, int numRounds, boolean selfAttacking) {
+		if(numRounds <= 0) {
+			return;
+		}
+
+		// Every round is won by one of the robots and costs the loser the same amount of health
+		int roundsWon = Math.max(0, oppHealthLost) / MoreheadArenaRules.DAMAGE_PER_ROUND;
+		int roundsLost = Math.max(0, healthLost) / MoreheadArenaRules.DAMAGE_PER_ROUND;
+
+		double [] logWin = (selfAttacking) ? this.logWinAttacking : this.logWinDefending;
+		double [] logLose = (selfAttacking) ? this.logLoseAttacking : this.logLoseDefending;
+		double [] rounds = ROUNDS_LIKELIHOOD[Math.min(numRounds, TOTAL_STATS)];
+		double [] posterior = this.posterior[slot];
+
+		for(int k = 0; k < NUM_ALLOCATIONS; k++) {
+			posterior[k] += roundsWon * logWin[k] + roundsLost * logLose[k];
+
+			// Only the attacker decides how many rounds are fought
+			if(!selfAttacking) {
+				posterior[k] += rounds[k];
+			}
+		}
+
+		this.summarize(slot);
+	}
+
+	/**
+	 * Starts an opponent from what was learnt about it before, only counting part of it since the robot may have changed
+	 * @param slot - the row of the opponent
+	 * @param logPrior - the log probability of every allocation, from getLogPosterior in an earlier match
+	 */
+	public void setPrior(int slot, double [] logPrior) {
+		double [] posterior = this.posterior[slot];
+
+		for(int k = 0; k < NUM_ALLOCATIONS; k++) {
+			posterior[k] = PRIOR_WEIGHT * logPrior[k];
+		}
+
+		this.summarize(slot);
+	}
+
+	/**
+	 * Copies the log probability of every allocation of an opponent, the most likely one is 0
+	 * @param slot - the row of the opponent
+	 * @param logPosterior - filled with the log probabilities
+	 */
+	public void getLogPosterior(int slot, double [] logPosterior) {
+		System.arraycopy(this.posterior[slot], 0, logPosterior, 0, NUM_ALLOCATIONS);
+	}
+
+	/**
+	 * Works out the expected stats and confidence of an opponent from its posterior
+	 * @param slot - the row of the opponent
+	 */
+	private void summarize(int slot) {
+		double [] posterior = this.posterior[slot];
+		double max = Double.NEGATIVE_INFINITY;
+
+		for(int k = 0; k < NUM_ALLOCATIONS; k++) {
+			max = Math.max(max, posterior[k]);
+		}
+
+		double total = 0;
+		double attack = 0;
+		double defense = 0;
+		double agility = 0;
+		double best = 0;
+
+		for(int k = 0; k < NUM_ALLOCATIONS; k++) {
+			double weight = Math.exp(posterior[k] - max);
+
+			total += weight;
+			attack += weight * ATTACK[k];
+			defense += weight * DEFENSE[k];
+			agility += weight * AGILITY[k];
+			best = Math.max(best, weight);
+		}
+
+		this.expectedAttack[slot] = attack / total;
+		this.expectedDefense[slot] = defense / total;
+		this.expectedAgility[slot] = agility / total;
+		this.confidence[slot] = best / total;
+
+		// Keeping the largest log probability at 0 stops it from drifting towards negative infinity over a long match
+		for(int k = 0; k < NUM_ALLOCATIONS; k++) {
+			posterior[k] -= max;
+		}
+	}
+
+	/**
+	 * Gets the expected attack of an opponent
+	 * @param slot - the row of the opponent
+	 * @return the attack averaged over every allocation
+	 */
+	public double getAttack(int slot) {
+		return this.expectedAttack[slot];
+	}
+
+	/**
+	 * Gets the expected defense of an opponent
+	 * @param slot - the row of the opponent
+	 * @return the defense averaged over every allocation
+	 */
+	public double getDefense(int slot) {
+		return this.expectedDefense[slot];
+	}
+
+	/**
+	 * Gets the expected agility of an opponent
+	 * @param slot - the row of the opponent
+	 * @return the agility averaged over every allocation
+	 */
+	public double getAgility(int slot) {
+		return this.expectedAgility[slot];
+	}
+
+	/**
+	 * Gets how sure the estimator is about an opponent
+	 * @param slot - the row of the opponent
+	 * @return the probability of its most likely allocation, 1/36 when nothing is known
+	 */
+	public double getConfidence(int slot) {
+		return this.confidence[slot];
+	}
+}
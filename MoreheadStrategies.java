@@ -0,0 +1,161 @@
+package summative;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Creates the strategy of every robot version, each call gives a new strategy for one robot
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadStrategies {
+	/**
+	 * Dummy robot that stays still and never fights
+	 * @return the strategy
+	 */
+	public static MoreheadStrategy v0() {
+		return new MoreheadStandStillStrategy("V0", false);
+	}
+
+	/**
+	 * Dummy robot that stays still and fights anyone on its location
+	 * @return the strategy
+	 */
+	public static MoreheadStrategy v0Attacking() {
+		return new MoreheadStandStillStrategy("V0Attacking", true);
+	}
+
+	/**
+	 * Dummy robot that steps forward every turn and fights anyone on the location it steps onto
+	 * @return the strategy
+	 */
+	public static MoreheadStrategy v0Moving() {
+		return new MoreheadForwardStrategy("V0Moving");
+	}
+
+	/**
+	 * Fights the robot with the least health, defends every time
+	 * @return the strategy
+	 */
+	public static MoreheadStrategy v1() {
+		return new MoreheadModeStrategy("V1", new MoreheadWeightedScorer(1, 0), new MoreheadGreedyPlanner(false));
+	}
+
+	/**
+	 * Fights the robot with the best health/distance factor, never runs away, sends an empty request below 20 health
+	 * @return the strategy
+	 */
+	public static MoreheadStrategy v2() {
+		MoreheadModeStrategy strategy = new MoreheadModeStrategy("V2", new MoreheadWeightedScorer(0.6, 0.4), new MoreheadGreedyPlanner(false));
+		strategy.setIdleMode(20);
+
+		return strategy;
+	}
+
+	/**
+	 * Health/distance factor that favours close opponents when energy is low, runs away when health is below 40
+	 * @return the strategy
+	 */
+	public static MoreheadStrategy v3() {
+		MoreheadModeStrategy strategy = new MoreheadModeStrategy("V3", new MoreheadWeightedScorer(0.6, 0.4), new MoreheadGreedyPlanner(false));
+		strategy.setEnergyLowMode(new MoreheadWeightedScorer(0.2, 0.8), 30);
+		strategy.setFleeMode(new MoreheadRandomFleePlanner(false), 40, 3);
+
+		return strategy;
+	}
+
+	/**
+	 * Health/distance/advantage factor, only moves as far as its energy pays for
+	 * @return the strategy
+	 */
+	public static MoreheadStrategy v4() {
+		MoreheadModeStrategy strategy = new MoreheadModeStrategy("V4", new MoreheadWeightedScorer(0.3, 0.2, 0.5, 0, 0, 0), new MoreheadGreedyPlanner(true));
+		strategy.setEnergyLowMode(new MoreheadWeightedScorer(0.2, 0.4, 0.4, 0, 0, 0), 25);
+		strategy.setFleeMode(new MoreheadRandomFleePlanner(false), 15, 3);
+		strategy.setOpponentHistory(1, false, MoreheadModeStrategy.HISTORY_DAMAGE_DEALT);
+
+		return strategy;
+	}
+
+	/**
+	 * Health/distance/stat factor, works out the stats of its opponents from their fights and movement
+	 * @return the strategy
+	 */
+	public static MoreheadStrategy v5() {
+		MoreheadModeStrategy strategy = new MoreheadModeStrategy("V5", new MoreheadWeightedScorer(0.2, 0.1, 0, 0.2, 0.4, 0.1), new MoreheadGreedyPlanner(true));
+		strategy.setEnergyLowMode(new MoreheadWeightedScorer(0.1, 0.3, 0, 0.3, 0.2, 0.1), 25);
+		strategy.setFleeMode(new MoreheadRandomFleePlanner(true), 15, 3);
+		strategy.setOpponentHistory(0, true, MoreheadModeStrategy.HISTORY_FULL);
+
+		return strategy;
+	}
+
+	/**
+	 * V5 with different stat factors, runs away from the most dangerous cells at 15 health or less for at most two turns
+	 * @return the strategy, using the weights from MoreheadWeightProfile.forV6()
+	 */
+	public static MoreheadStrategy v6() {
+		return v6(MoreheadWeightProfile.forV6());
+	}
+
+	/**
+	 * V6 with its scoring weights taken from a profile
+	 * @param profile - the scoring weights
+	 * @return the strategy
+	 */
+	public static MoreheadStrategy v6(MoreheadWeightProfile profile) {
+		return createV6("V6", profile);
+	}
+
+	/**
+	 * V6 that searches two turns ahead in attack mode instead of scoring opponents, for at most a millisecond per turn
+	 * @return the strategy, using the weights from MoreheadWeightProfile.forV6() when the search cannot decide
+	 */
+	public static MoreheadStrategy v6Lookahead() {
+		MoreheadModeStrategy strategy = createV6("V6Lookahead", MoreheadWeightProfile.forV6());
+		strategy.setDecisionEngine(new MoreheadLookahead(2, MoreheadLookahead.DEFAULT_BUDGET_NANOS, 4));
+
+		return strategy;
+	}
+
+	/**
+	 * V6 that plays 2000 random rollouts of the next three turns in attack mode, split between one worker for every core
+	 * The workers take turns on the robot's own thread, use v6MonteCarlo(pool) to run them at the same time
+	 * @return the strategy, using the weights from MoreheadWeightProfile.forV6() when the rollouts cannot decide
+	 */
+	public static MoreheadStrategy v6MonteCarlo() {
+		return v6MonteCarlo(null);
+	}
+
+	/**
+	 * V6 that plays its rollouts on a pool, the match plays out the same way as without one
+	 * @param pool - the pool the rollouts run on, owned by the caller, null for the robot's own thread
+	 * @return the strategy, using the weights from MoreheadWeightProfile.forV6() when the rollouts cannot decide
+	 */
+	public static MoreheadStrategy v6MonteCarlo(ForkJoinPool pool) {
+		MoreheadModeStrategy strategy = createV6("V6MonteCarlo", MoreheadWeightProfile.forV6());
+		MoreheadMonteCarloPlanner planner = new MoreheadMonteCarloPlanner(3, 4, MoreheadMonteCarloPlanner.DEFAULT_ROLLOUTS, Runtime.getRuntime().availableProcessors());
+		planner.setPool(pool);
+		strategy.setDecisionEngine(planner);
+
+		return strategy;
+	}
+
+	/**
+	 * Creates the modes of V6
+	 * @param name - the name of the strategy
+	 * @param profile - the scoring weights
+	 * @return the strategy
+	 */
+	private static MoreheadModeStrategy createV6(String name, MoreheadWeightProfile profile) {
+		MoreheadModeStrategy strategy = new MoreheadModeStrategy(name, profile.createAttackScorer(), new MoreheadGreedyPlanner(true));
+		strategy.setEnergyLowMode(profile.createEnergyLowScorer(), 25);
+		strategy.setFleeMode(new MoreheadThreatFleePlanner(), 16, 2);
+		strategy.setCandidateLimit(32, 4);
+		strategy.setOpponentHistory(0, true, MoreheadModeStrategy.HISTORY_FULL);
+		strategy.setStatInference(true);
+		strategy.setKnowledgeStore(MoreheadKnowledgeStore.forV6());
+		strategy.setPrediction(MoreheadTrajectoryPredictor.DEFAULT_HISTORY);
+
+		return strategy;
+	}
+}
@@ -0,0 +1,34 @@
+package summative;
+
+/**
+ * The decision making of a robot, hosted by a MoreheadStrategyRobot
+ * Each robot gets its own strategy object, so a strategy can keep history about its opponents
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public interface MoreheadStrategy {
+	/**
+	 * Gets the name of this strategy, used for turn stats
+	 * @return the name, for example "V6"
+	 */
+	String getName();
+
+	/**
+	 * Decides what the robot does this turn
+	 * @param robot - the robot taking its turn, its energy has already been updated
+	 * @param view - the robot's view of the round, the snapshot behind it may be shared with other robots
+	 * @param request - filled with the requested avenue, street and the ID of the opponent to fight (-1 for none)
+	 * @return the mode chosen this turn, one of the MoreheadTurnStats modes
+	 */
+	int takeTurn(MoreheadStrategyRobot robot, MoreheadArenaView view, int [] request);
+
+	/**
+	 * Considers the result of a battle, the robot's health has already been updated
+	 * @param robot - the robot that fought
+	 * @param healthLost - amount of health the robot has lost
+	 * @param oppID - the ID of the opponent
+	 * @param oppHealthLost - amount of health the opponent has lost
+	 * @param numRoundsFought - the number of rounds fought with the opponent
+	 */
+	void battleResult(MoreheadStrategyRobot robot, int healthLost, int oppID, int oppHealthLost, int numRoundsFought);
+}
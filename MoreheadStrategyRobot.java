@@ -0,0 +1,316 @@
+package summative;
+
+import java.awt.Color;
+import java.util.SplittableRandom;
+
+import becker.robots.*;
+
+/**
+ * A FighterRobot that hosts any MoreheadStrategy
+ * Keeps the health, energy and random numbers of the robot and moves it around the arena, the strategy makes every decision
+ * Every robot version shares this class, so there is only one takeTurn and goToLocation for the JIT to optimize
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadStrategyRobot extends FighterRobot implements MoreheadSeedable, MoreheadBatchable, MoreheadEntrantAware {
+	private int health;
+	private int energy;
+	private SplittableRandom generator;
+	private MoreheadStrategy strategy;
+	private MoreheadTurnStats stats;
+
+	// Key of the entrant in every seat, null when the arena does not say
+	private String [] entrantKeys;
+
+	// Names of the modes returned by the strategy, used in debug events
+	private static final String [] MODE_NAMES = {"attack", "healthLow", "energyLow"};
+
+	// Reused every turn, avenue, street and ID of the opponent to fight
+	private int [] request;
+
+	// Reused every turn, the snapshot is only made when the arena gives this robot an OppData array
+	private MoreheadArenaSnapshot ownSnapshot;
+	private MoreheadArenaView view;
+
+	/**
+	 * Constructor method
+	 * @param c - the City of the FighterRobot
+	 * @param a - the avenue of the FighterRobot
+	 * @param s - the street of the FighterRobot
+	 * @param d - the Direction of the FighterRobot
+	 * @param id - the ID of the FighterRobot
+	 * @param attack - the attack stat of the FighterRobot
+	 * @param defense - the defense stat of the FighterRobot
+	 * @param numMoves - the number of moves the FighterRobot can make in a turn
+	 * @param health - the health of the FighterRobot
+	 * @param color - the color of the FighterRobot
+	 * @param strategy - makes every decision for the FighterRobot
+	 */
+	public MoreheadStrategyRobot(City c, int a, int s, Direction d, int id, int attack, int defense, int numMoves, int health, Color color, MoreheadStrategy strategy) {
+		super(c, a, s, d, id, attack, defense, numMoves);
+		this.generator = new SplittableRandom();
+		this.health = health;
+		this.energy = 100;
+		this.request = new int[3];
+		this.view = new MoreheadArenaView();
+		this.setStrategy(strategy);
+		this.setColor(color);
+		this.setLabel();
+	}
+
+	/**
+	 * Replaces the strategy of this robot, used by the simulation engine to swap behaviors
+	 * @param strategy - the new strategy, should not be shared with another robot
+	 */
+	public void setStrategy(MoreheadStrategy strategy) {
+		this.strategy = strategy;
+		this.stats = MoreheadTurnStats.forRobot(strategy.getName());
+	}
+
+	/**
+	 * Gets the strategy of this robot
+	 * @return the strategy
+	 */
+	public MoreheadStrategy getStrategy() {
+		return this.strategy;
+	}
+
+	/**
+	 * Replaces the random number generator, used to make matches repeatable
+	 * @param generator - the generator, only used by this robot
+	 */
+	public void setRandom(SplittableRandom generator) {
+		this.generator = generator;
+	}
+
+	/**
+	 * Gets the random number generator of this robot
+	 * @return the generator
+	 */
+	public SplittableRandom getRandom() {
+		return this.generator;
+	}
+
+	/**
+	 * Tells this robot which entrant is in every seat, used to remember opponents between matches
+	 * @param keys - the key of every entrant indexed by ID, not copied
+	 */
+	public void setEntrantKeys(String [] keys) {
+		this.entrantKeys = keys;
+	}
+
+	/**
+	 * Gets the key of the entrant in every seat
+	 * @return the keys indexed by ID, null when the arena has not given them
+	 */
+	public String [] getEntrantKeys() {
+		return this.entrantKeys;
+	}
+
+	/**
+	 * Gets the health of this robot
+	 * @return the health
+	 */
+	public int getHealth() {
+		return this.health;
+	}
+
+	/**
+	 * Gets the energy this robot was given on its current turn
+	 * @return the energy
+	 */
+	public int getEnergy() {
+		return this.energy;
+	}
+
+	/**
+	 * Finds the number of moves this robot can afford this turn
+	 * @return the smaller of the moves its energy pays for and its numMoves attribute
+	 */
+	public int getAffordableMoves() {
+		int moves = this.energy/BattleManager.MOVES_ENERGY_COST;
+
+		// Maximum number of moves cannot be greater than the numMoves attribute
+		if(moves > this.getNumMoves()) {
+			moves = this.getNumMoves();
+		}
+
+		return moves;
+	}
+
+	/**
+	 * Displays the health and id of the robot and turns it black if its health is less than 0
+	 */
+	public void setLabel() {
+		// Set this robot's color to black if health is below 0, otherwise display its health
+		if(this.health > 0) {
+			super.setLabel(this.getID() + ": " + this.health);
+		} else {
+			this.setColor(Color.BLACK);
+		}
+	}
+
+	/**
+	 * Updates health and gives the result of the battle to the strategy
+	 * @param healthLost - amount of health this robot has lost
+	 * @param oppID - the ID of the opponent
+	 * @param oppHealthLost - amount of health opponent has lost
+	 * @param numRoundsFought - the number of rounds fought with the opponent
+	 */
+	public void battleResult(int healthLost, int oppID, int oppHealthLost, int numRoundsFought) {
+		this.health -= healthLost;
+		this.strategy.battleResult(this, healthLost, oppID, oppHealthLost, numRoundsFought);
+	}
+
+	/**
+	 * Asks the strategy what to do this turn
+	 * @param energy - the updated energy of this robot
+	 * @param data - the OppData array of opponents
+	 */
+	public TurnRequest takeTurn(int energy, OppData[] data) {
+		// Copied into the same columns every turn, so a turn does not make a new snapshot
+		if(this.ownSnapshot == null) {
+			this.ownSnapshot = new MoreheadArenaSnapshot(data);
+		} else {
+			this.ownSnapshot.refill(data);
+		}
+
+		return this.takeTurn(energy, this.ownSnapshot);
+	}
+
+	/**
+	 * Asks the strategy what to do this turn on a snapshot that may be shared with the other robots
+	 * @param energy - the updated energy of this robot
+	 * @param snapshot - the snapshot of the round
+	 */
+	public TurnRequest takeTurn(int energy, MoreheadArenaSnapshot snapshot) {
+		// Only measured when -Dmorehead.stats=true
+		long startTime = MoreheadTurnStats.startTime();
+		long startBytes = MoreheadTurnStats.startBytes();
+
+		// Updating energy
+		this.energy = energy;
+
+		this.view.reset(snapshot, this.getID(), this.getAvenue(), this.getStreet());
+		int mode = this.strategy.takeTurn(this, this.view, this.request);
+
+		this.stats.endTurn(startTime, startBytes, mode);
+
+		// Only boxed when debug events are on
+		if(MoreheadEventLog.isEnabled(MoreheadEventLog.DEBUG)) {
+			MoreheadEventLog.log(MoreheadEventLog.DEBUG, this.strategy.getName(), "Robot %d mode %s energy %d health %d: move to (%d, %d), fight %d",
+					this.getID(), MODE_NAMES[mode], energy, this.health, this.request[0], this.request[1], this.request[2]);
+		}
+
+		return new TurnRequest(this.request[0], this.request[1], this.request[2], this.getAttack());
+	}
+
+	/**
+	 * Moves the robot to a specified location
+	 * @param a - the avenue to go to
+	 * @param s - the street to go to
+	 */
+	public void goToLocation(int a, int s) {
+		if(MoreheadEventLog.isEnabled(MoreheadEventLog.TRACE)) {
+			MoreheadEventLog.log(MoreheadEventLog.TRACE, "MoreheadStrategyRobot", "Robot %d moving from (%d, %d) to (%d, %d)", this.getID(), this.getAvenue(), this.getStreet(), a, s);
+		}
+
+		// If the robot is to the left of the specified location
+		if(this.getAvenue() - a < 0) {
+			this.turnDirection(Direction.EAST);
+		} else if(this.getAvenue() - a > 0){
+			this.turnDirection(Direction.WEST);
+		}
+
+		// Only a move that is needed can be blocked
+		if(this.getAvenue() != a) {
+			if(this.frontIsClear()) {
+				this.move(Math.abs(this.getAvenue() - a));
+			} else {
+				this.logBlocked(a, s);
+			}
+		}
+
+		// If the robot above the specified location
+		if(this.getStreet() - s < 0) {
+			this.turnDirection(Direction.SOUTH);
+		} else if (this.getStreet() - s > 0){
+			this.turnDirection(Direction.NORTH);
+		}
+
+		if(this.getStreet() != s) {
+			if(this.frontIsClear()) {
+				this.move(Math.abs(this.getStreet() - s));
+			} else {
+				this.logBlocked(a, s);
+			}
+		}
+	}
+
+	/**
+	 * Reports a move that a wall stopped
+	 * @param a - the avenue the robot was going to
+	 * @param s - the street the robot was going to
+	 */
+	private void logBlocked(int a, int s) {
+		if(MoreheadEventLog.isEnabled(MoreheadEventLog.DEBUG)) {
+			MoreheadEventLog.log(MoreheadEventLog.DEBUG, "MoreheadStrategyRobot", "Robot %d blocked at (%d, %d) going to (%d, %d)", this.getID(), this.getAvenue(), this.getStreet(), a, s);
+		}
+	}
+
+	/**
+	 * Faces the robot in a certain direction with the least amount of turns
+	 * @param dir - the direction to be faced
+	 */
+	private void turnDirection(Direction dir) {
+		// If the robot is not already facing the requested direction
+		if(this.getDirection() != dir) {
+			// If robot is to face east, eORwest, OR north, OR south
+			switch (dir) {
+			case EAST:
+				// If the robot is facing west, or north, or south
+				if(this.getDirection() == Direction.WEST) {
+					this.turnAround();
+				} else if(this.getDirection() == Direction.NORTH) {
+					this.turnRight();
+				} else {
+					this.turnLeft();
+				}
+				break;
+
+			case WEST:
+				// If the robot is facing east, or south, or west
+				if(this.getDirection() == Direction.EAST) {
+					this.turnAround();
+				} else if(this.getDirection() == Direction.SOUTH) {
+					this.turnRight();
+				} else {
+					this.turnLeft();
+				}
+				break;
+
+			case NORTH:
+				// If the robot is facing south, or west, or east
+				if(this.getDirection() == Direction.SOUTH) {
+					this.turnAround();
+				} else if(this.getDirection() == Direction.WEST) {
+					this.turnRight();
+				} else {
+					this.turnLeft();
+				}
+				break;
+
+			default:
+				// If the robot is facing north, or east, or west
+				if(this.getDirection() == Direction.NORTH) {
+					this.turnAround();
+				} else if(this.getDirection() == Direction.EAST) {
+					this.turnRight();
+				} else {
+					this.turnLeft();
+				}
+				break;
+			}
+		}
+	}
+}
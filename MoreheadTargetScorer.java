@@ -0,0 +1,24 @@
+package summative;
+
+/**
+ * Scores every opponent so that the one with the highest score is attacked
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public interface MoreheadTargetScorer {
+	/**
+	 * Scores every row of the opponent table
+	 * @param opponents - the opponent table, its distances measured from the robot choosing a target
+	 * @param scores - filled with the score of every row
+	 */
+	void score(MoreheadOpponentTable opponents, double [] scores);
+
+	/**
+	 * Scores only some rows of the opponent table, used when there are too many opponents to score them all
+	 * @param opponents - the opponent table, its distances measured from the robot choosing a target
+	 * @param rows - the rows to score
+	 * @param count - the number of rows to score
+	 * @param scores - filled with the score of every row that is scored, other rows are left as they are
+	 */
+	void scoreRows(MoreheadOpponentTable opponents, int [] rows, int count, double [] scores);
+}
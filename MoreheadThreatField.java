@@ -0,0 +1,140 @@
+package summative;
+
+/**
+ * How dangerous every cell of the arena is, based on where the live opponents are and how far and hard they can hit
+ * Each opponent adds a diamond of threat around itself, strongest on its own cell and fading out past its agility
+ * The field is updated incrementally, only the diamonds of opponents that moved or changed are taken off and added again
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadThreatField {
+	private int width;
+	private int height;
+
+	// Threat of every cell, indexed by street * width + avenue
+	private int [] threat;
+
+	// What each row of the opponent table has added to the field, a weight of 0 means nothing
+	private int [] stampAve;
+	private int [] stampStr;
+	private int [] stampReach;
+	private int [] stampWeight;
+	private MoreheadOpponentTable source;
+
+	/**
+	 * Constructor method
+	 * @param width - the number of avenues in the arena
+	 * @param height - the number of streets in the arena
+	 */
+	public MoreheadThreatField(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.threat = new int[width * height];
+	}
+
+	/**
+	 * Brings the field up to date with the opponent table
+	 * @param opponents - the opponent table
+	 * @param selfID - the ID of the robot using the field, it is not a threat to itself
+	 */
+	public void update(MoreheadOpponentTable opponents, int selfID) {
+		// A new table means the rows no longer match what was added, so the field starts over
+		if(opponents != this.source) {
+			this.source = opponents;
+			this.threat = new int[this.width * this.height];
+			this.stampAve = new int[opponents.size()];
+			this.stampStr = new int[opponents.size()];
+			this.stampReach = new int[opponents.size()];
+			this.stampWeight = new int[opponents.size()];
+		}
+
+		int [] ids = opponents.getIDs();
+		int [] avenues = opponents.getAvenues();
+		int [] streets = opponents.getStreets();
+		int [] healths = opponents.getHealths();
+		int [] attacks = opponents.getAttacks();
+		int [] agilities = opponents.getAgilities();
+
+		for(int i = 0; i < ids.length; i++) {
+			int weight = 0;
+			int reach = 0;
+
+			// Unused rows, dead opponents and this robot are not a threat
+			if(ids[i] != -1 && ids[i] != selfID && healths[i] > 0) {
+				// Attack and agility are only lower bounds, so unknown opponents still count
+				weight = 1 + Math.max(attacks[i], 0);
+				reach = 1 + Math.max(agilities[i], 0);
+			}
+
+			if(weight == this.stampWeight[i] && reach == this.stampReach[i] && avenues[i] == this.stampAve[i] && streets[i] == this.stampStr[i]) {
+				continue;
+			}
+
+			this.stamp(this.stampAve[i], this.stampStr[i], this.stampReach[i], -this.stampWeight[i]);
+			this.stamp(avenues[i], streets[i], reach, weight);
+
+			this.stampAve[i] = avenues[i];
+			this.stampStr[i] = streets[i];
+			this.stampReach[i] = reach;
+			this.stampWeight[i] = weight;
+		}
+	}
+
+	/**
+	 * Adds the threat of one opponent to every cell it can reach
+	 * @param ave - the avenue of the opponent
+	 * @param str - the street of the opponent
+	 * @param reach - how far the threat spreads
+	 * @param weight - how dangerous the opponent is, negative to take the threat off again
+	 */
+	private void stamp(int ave, int str, int reach, int weight) {
+		if(weight == 0) {
+			return;
+		}
+
+		for(int dx = -reach; dx <= reach; dx++) {
+			int cellAve = ave + dx;
+
+			if(cellAve < 0 || cellAve >= this.width) {
+				continue;
+			}
+
+			int remaining = reach - Math.abs(dx);
+
+			for(int dy = -remaining; dy <= remaining; dy++) {
+				int cellStr = str + dy;
+
+				if(cellStr >= 0 && cellStr < this.height) {
+					// Closer cells are more dangerous
+					this.threat[cellStr * this.width + cellAve] += weight * (reach + 1 - Math.abs(dx) - Math.abs(dy));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the threat of a cell
+	 * @param ave - the avenue of the cell
+	 * @param str - the street of the cell
+	 * @return the threat, 0 if no opponent can reach the cell
+	 */
+	public int getThreat(int ave, int str) {
+		return this.threat[str * this.width + ave];
+	}
+
+	/**
+	 * Gets the number of avenues in the arena
+	 * @return the width of the field
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Gets the number of streets in the arena
+	 * @return the height of the field
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+}
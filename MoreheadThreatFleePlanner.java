@@ -0,0 +1,71 @@
+package summative;
+
+/**
+ * Runs away to the reachable cell with the least threat, ignoring the target
+ * Ties go to the cell that takes the fewest moves, so a robot that is already safe saves its energy
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadThreatFleePlanner implements MoreheadMovementPlanner {
+	private MoreheadThreatField field;
+
+	/**
+	 * Constructor method, the field covers the arena in BattleManager
+	 */
+	public MoreheadThreatFleePlanner() {
+		this.field = new MoreheadThreatField(BattleManager.WIDTH, BattleManager.HEIGHT);
+	}
+
+	/**
+	 * Run away to the safest location that can be reached
+	 * @param robot - the robot moving
+	 * @param opponents - the opponent table, used to build the threat field
+	 * @param targetAve - not used
+	 * @param targetStr - not used
+	 * @param request - filled with the requested location
+	 */
+	public void plan(MoreheadStrategyRobot robot, MoreheadOpponentTable opponents, int targetAve, int targetStr, int [] request) {
+		this.field.update(opponents, robot.getID());
+
+		int currentAve = robot.getAvenue();
+		int currentStr = robot.getStreet();
+		int moves = robot.getAffordableMoves();
+
+		int bestAve = currentAve;
+		int bestStr = currentStr;
+		int bestThreat = Integer.MAX_VALUE;
+		int bestMoves = Integer.MAX_VALUE;
+
+		// Every cell within the number of affordable moves that is inside the arena
+		for(int dx = -moves; dx <= moves; dx++) {
+			int ave = currentAve + dx;
+
+			if(ave < 0 || ave >= this.field.getWidth()) {
+				continue;
+			}
+
+			int remaining = moves - Math.abs(dx);
+
+			for(int dy = -remaining; dy <= remaining; dy++) {
+				int str = currentStr + dy;
+
+				if(str < 0 || str >= this.field.getHeight()) {
+					continue;
+				}
+
+				int threat = this.field.getThreat(ave, str);
+				int used = Math.abs(dx) + Math.abs(dy);
+
+				if(threat < bestThreat || (threat == bestThreat && used < bestMoves)) {
+					bestAve = ave;
+					bestStr = str;
+					bestThreat = threat;
+					bestMoves = used;
+				}
+			}
+		}
+
+		request[0] = bestAve;
+		request[1] = bestStr;
+	}
+}
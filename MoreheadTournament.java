@@ -0,0 +1,322 @@
+package summative;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs round-robin and Swiss tournaments between robot versions using the headless battle manager
+ * Every match is played on its own battle manager with its own robots, so matches are spread across all cores
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadTournament {
+	private String [] names;
+	private MoreheadRobotFactory [] factories;
+	private int numPlayers;
+	private SplittableRandom generator;
+	private ForkJoinPool pool;
+
+	// Results for every entrant
+	private int [] wins;
+	private int [] losses;
+	private int [] draws;
+	private int [][] headToHead;
+
+	/**
+	 * Constructor method
+	 * @param names - the name of each entrant, for example "V6"
+	 * @param factories - creates the robots for each entrant
+	 * @param numPlayers - the number of robots in each match, should be BattleManager.NUM_PLAYERS
+	 * @param seed - seed for every match in the tournament
+	 * @param parallelism - the number of matches played at the same time
+	 */
+	public MoreheadTournament(String [] names, MoreheadRobotFactory [] factories, int numPlayers, long seed, int parallelism) {
+		this.names = names;
+		this.factories = factories;
+		this.numPlayers = numPlayers;
+		this.generator = new SplittableRandom(seed);
+		this.pool = new ForkJoinPool(parallelism);
+
+		this.wins = new int[names.length];
+		this.losses = new int[names.length];
+		this.draws = new int[names.length];
+		this.headToHead = new int[names.length][names.length];
+	}
+
+	/**
+	 * Constructor method that uses every core
+	 * @param names - the name of each entrant
+	 * @param factories - creates the robots for each entrant
+	 * @param numPlayers - the number of robots in each match
+	 * @param seed - seed for every match in the tournament
+	 */
+	public MoreheadTournament(String [] names, MoreheadRobotFactory [] factories, int numPlayers, long seed) {
+		this(names, factories, numPlayers, seed, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Plays a round-robin between every robot version and prints the results
+	 * @param args - optional number of matches per pair and seed
+	 */
+	public static void main(String [] args) {
+		int matchesPerPair = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+		long seed = (args.length > 1) ? Long.parseLong(args[1]) : 0;
+
+		String [] names = {"V0", "V1", "V2", "V3", "V4", "V5", "V6"};
+		MoreheadRobotFactory [] factories = {
+				MoreheadFighterRobotV0::new,
+				MoreheadFighterRobotV1::new,
+				MoreheadFighterRobotV2::new,
+				MoreheadFighterRobotV3::new,
+				MoreheadFighterRobotV4::new,
+				MoreheadFighterRobotV5::new,
+				MoreheadFighterRobotV6::new
+		};
+
+		MoreheadTournament tournament = new MoreheadTournament(names, factories, BattleManager.NUM_PLAYERS, seed);
+		tournament.playRoundRobin(matchesPerPair);
+		tournament.shutdown();
+
+		System.out.print(tournament);
+	}
+
+	/**
+	 * Plays every entrant against every other entrant
+	 * @param matchesPerPair - the number of matches for each pair of entrants
+	 */
+	public void playRoundRobin(int matchesPerPair) {
+		List<int []> pairings = new ArrayList<int []>();
+
+		// Every pair of entrants
+		for(int i = 0; i < this.names.length; i++) {
+			for(int n = i + 1; n < this.names.length; n++) {
+				pairings.add(new int [] {i, n});
+			}
+		}
+
+		this.playPairings(pairings, matchesPerPair);
+	}
+
+	/**
+	 * Plays a Swiss tournament, where entrants with similar scores are paired every round
+	 * @param numRounds - the number of Swiss rounds
+	 * @param matchesPerPair - the number of matches for each pairing in a round
+	 */
+	public void playSwiss(int numRounds, int matchesPerPair) {
+		boolean [][] played = new boolean[this.names.length][this.names.length];
+
+		for(int round = 0; round < numRounds; round++) {
+			Integer [] order = this.rankOrder();
+			boolean [] paired = new boolean[this.names.length];
+			List<int []> pairings = new ArrayList<int []>();
+
+			// Pair each entrant with the next best unpaired entrant it has not played yet
+			for(int i = 0; i < order.length; i++) {
+				int first = order[i];
+
+				if(paired[first]) {
+					continue;
+				}
+
+				int second = -1;
+
+				for(int n = i + 1; n < order.length; n++) {
+					if(!paired[order[n]]) {
+						// Take the first unpaired entrant, but prefer one that has not been played
+						if(second == -1) {
+							second = order[n];
+						}
+						if(!played[first][order[n]]) {
+							second = order[n];
+							break;
+						}
+					}
+				}
+
+				// An odd entrant out gets a bye
+				if(second != -1) {
+					paired[first] = true;
+					paired[second] = true;
+					played[first][second] = true;
+					played[second][first] = true;
+					pairings.add(new int [] {first, second});
+				}
+			}
+
+			this.playPairings(pairings, matchesPerPair);
+		}
+	}
+
+	/**
+	 * Plays all the matches for a list of pairings in parallel and adds up the results
+	 * @param pairings - pairs of entrant indexes
+	 * @param matchesPerPair - the number of matches for each pairing
+	 */
+	private void playPairings(List<int []> pairings, int matchesPerPair) {
+		int numMatches = pairings.size() * matchesPerPair;
+
+		// Seeds and line ups are decided before playing so that results do not depend on thread timing
+		long [] seeds = new long[numMatches];
+		int [][] lineUps = new int[numMatches][];
+
+		for(int k = 0; k < numMatches; k++) {
+			int [] pair = pairings.get(k / matchesPerPair);
+
+			seeds[k] = this.generator.nextLong();
+			lineUps[k] = this.lineUp(pair[0], pair[1], k % 2 == 1);
+		}
+
+		MoreheadMatchResult [] results;
+
+		try {
+			results = this.pool.submit(() -> IntStream.range(0, numMatches).parallel().mapToObj(k -> this.playMatch(lineUps[k], seeds[k])).toArray(MoreheadMatchResult[]::new)).get();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Tournament was interrupted", e);
+		} catch(ExecutionException e) {
+			throw new IllegalStateException("A match failed", e.getCause());
+		}
+
+		// Adding up results after every match is done
+		for(int k = 0; k < numMatches; k++) {
+			int [] pair = pairings.get(k / matchesPerPair);
+			int winnerID = results[k].getWinnerID();
+
+			if(winnerID == -1) {
+				this.draws[pair[0]]++;
+				this.draws[pair[1]]++;
+			} else {
+				int winner = lineUps[k][winnerID];
+				int loser = (winner == pair[0]) ? pair[1] : pair[0];
+
+				this.wins[winner]++;
+				this.losses[loser]++;
+				this.headToHead[winner][loser]++;
+			}
+		}
+	}
+
+	/**
+	 * Fills the arena with robots from two entrants, alternating between them
+	 * @param first - the first entrant
+	 * @param second - the second entrant
+	 * @param swapped - whether the second entrant gets the even IDs instead
+	 * @return the entrant for each robot ID
+	 */
+	private int [] lineUp(int first, int second, boolean swapped) {
+		int [] lineUp = new int[this.numPlayers];
+
+		for(int i = 0; i < lineUp.length; i++) {
+			lineUp[i] = ((i % 2 == 0) != swapped) ? first : second;
+		}
+
+		return lineUp;
+	}
+
+	/**
+	 * Plays one isolated match
+	 * @param lineUp - the entrant for each robot ID
+	 * @param seed - the seed of the match
+	 * @return the result of the match
+	 */
+	private MoreheadMatchResult playMatch(int [] lineUp, long seed) {
+		MoreheadRobotFactory [] matchFactories = new MoreheadRobotFactory[lineUp.length];
+
+		for(int i = 0; i < lineUp.length; i++) {
+			matchFactories[i] = this.factories[lineUp[i]];
+		}
+
+		return new MoreheadHeadlessBattleManager(matchFactories, seed).playMatch();
+	}
+
+	/**
+	 * Orders the entrants by score, a win is worth 2 points and a draw 1 point
+	 * @return the entrant indexes from best to worst
+	 */
+	private Integer [] rankOrder() {
+		Integer [] order = new Integer[this.names.length];
+
+		for(int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+
+		Arrays.sort(order, (x, y) -> this.score(y) - this.score(x));
+		return order;
+	}
+
+	/**
+	 * Gets the score of an entrant
+	 * @param entrant - the entrant index
+	 * @return the entrant's score
+	 */
+	private int score(int entrant) {
+		return 2 * this.wins[entrant] + this.draws[entrant];
+	}
+
+	/**
+	 * Gets the win rate of an entrant
+	 * @param entrant - the entrant index
+	 * @return wins divided by matches played, 0 if no matches were played
+	 */
+	public double getWinRate(int entrant) {
+		int played = this.wins[entrant] + this.losses[entrant] + this.draws[entrant];
+
+		if(played == 0) {
+			return 0;
+		}
+
+		return (double)this.wins[entrant] / played;
+	}
+
+	/**
+	 * Gets how many times one entrant beat another
+	 * @param winner - the winning entrant
+	 * @param loser - the losing entrant
+	 * @return the number of wins
+	 */
+	public int getWins(int winner, int loser) {
+		return this.headToHead[winner][loser];
+	}
+
+	/**
+	 * Stops the worker threads of this tournament
+	 */
+	public void shutdown() {
+		this.pool.shutdown();
+	}
+
+	/**
+	 * Creates a table of every entrant's results followed by the head to head wins
+	 * @return the results table
+	 */
+	public String toString() {
+		StringBuilder table = new StringBuilder();
+		table.append(String.format("%-10s%8s%8s%8s%10s%n", "Entrant", "Wins", "Losses", "Draws", "Win Rate"));
+
+		for(int i : this.rankOrder()) {
+			table.append(String.format("%-10s%8d%8d%8d%9.1f%%%n", this.names[i], this.wins[i], this.losses[i], this.draws[i], 100 * this.getWinRate(i)));
+		}
+
+		// Head to head, each row is how many times that entrant beat each column
+		table.append(String.format("%n%-10s", ""));
+		for(int i = 0; i < this.names.length; i++) {
+			table.append(String.format("%8s", this.names[i]));
+		}
+		table.append(String.format("%n"));
+
+		for(int i = 0; i < this.names.length; i++) {
+			table.append(String.format("%-10s", this.names[i]));
+			for(int n = 0; n < this.names.length; n++) {
+				table.append(String.format("%8d", this.headToHead[i][n]));
+			}
+			table.append(String.format("%n"));
+		}
+
+		return table.toString();
+	}
+}
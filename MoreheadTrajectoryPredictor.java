@@ -0,0 +1,188 @@
+package summative;
+
+/**
+ * Predicts where each opponent will be next turn from its last few moves
+ * Every opponent keeps a ring buffer of the moves it made in its last turns, so updating costs the same however long
+ * the history is. The chance of each next cell is the share of those moves that would take the opponent there
+ * Opponents move at the same time as this robot, so going to where an opponent will be lands on it more often than going to
+ * where it was
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadTrajectoryPredictor {
+	public static final int DEFAULT_HISTORY = 16;
+
+	private int history;
+	private int width;
+	private int height;
+
+	// The table the history was built from, the history starts over when it changes
+	private MoreheadOpponentTable source;
+
+	// Ring buffers of moves, indexed by [slot * history + k]
+	private int [] moveAve;
+	private int [] moveStr;
+	private int [] head;
+	private int [] count;
+
+	// Location at the last update, to work out the next move
+	private int [] lastAve;
+	private int [] lastStr;
+	private boolean [] seen;
+
+	// Cells an opponent may move to and their chances, filled by predict
+	private int [] cellAve;
+	private int [] cellStr;
+	private double [] cellChance;
+
+	/**
+	 * Constructor method
+	 * @param history - the number of moves remembered for each opponent
+	 * @param width - the number of avenues in the arena
+	 * @param height - the number of streets in the arena
+	 */
+	public MoreheadTrajectoryPredictor(int history, int width, int height) {
+		this.history = history;
+		this.width = width;
+		this.height = height;
+		this.cellAve = new int[Math.max(history, 1)];
+		this.cellStr = new int[Math.max(history, 1)];
+		this.cellChance = new double[Math.max(history, 1)];
+	}
+
+	/**
+	 * Adds the newest location of every live opponent to its history, call once a turn after the table is refreshed
+	 * @param opponents - the opponent table
+	 */
+	public void update(MoreheadOpponentTable opponents) {
+		int size = opponents.size();
+
+		if(opponents != this.source || this.head == null || this.head.length != size) {
+			this.source = opponents;
+			this.moveAve = new int[size * this.history];
+			this.moveStr = new int[size * this.history];
+			this.head = new int[size];
+			this.count = new int[size];
+			this.lastAve = new int[size];
+			this.lastStr = new int[size];
+			this.seen = new boolean[size];
+		}
+
+		int [] ids = opponents.getIDs();
+		int [] avenues = opponents.getAvenues();
+		int [] streets = opponents.getStreets();
+		int [] healths = opponents.getHealths();
+
+		for(int i = 0; i < size; i++) {
+			if(ids[i] == -1 || healths[i] <= 0) {
+				continue;
+			}
+
+			if(this.seen[i] && this.history > 0) {
+				int k = i * this.history + this.head[i];
+
+				// The oldest move is written over once the buffer is full
+				this.moveAve[k] = avenues[i] - this.lastAve[i];
+				this.moveStr[k] = streets[i] - this.lastStr[i];
+				this.head[i] = (this.head[i] + 1) % this.history;
+				this.count[i] = Math.min(this.count[i] + 1, this.history);
+			}
+
+			this.lastAve[i] = avenues[i];
+			this.lastStr[i] = streets[i];
+			this.seen[i] = true;
+		}
+	}
+
+	/**
+	 * Works out the cells an opponent may be on next turn and their chances, call after update
+	 * @param slot - the row of the opponent
+	 * @return the number of cells, read them with getCellAvenue, getCellStreet and getCellChance
+	 */
+	public int predict(int slot) {
+		int ave = this.lastAve[slot];
+		int str = this.lastStr[slot];
+		int moves = this.count[slot];
+
+		// Nothing is known yet, so the opponent is expected to stay
+		if(moves == 0) {
+			this.cellAve[0] = ave;
+			this.cellStr[0] = str;
+			this.cellChance[0] = 1;
+			return 1;
+		}
+
+		int cells = 0;
+
+		// Newest move first, so that cells reached by newer moves come first
+		for(int m = 0; m < moves; m++) {
+			int k = slot * this.history + (this.head[slot] - 1 - m + this.history) % this.history;
+			int a = Math.max(0, Math.min(this.width - 1, ave + this.moveAve[k]));
+			int s = Math.max(0, Math.min(this.height - 1, str + this.moveStr[k]));
+			int c = 0;
+
+			// Moves that end on the same cell add up
+			while(c < cells && (this.cellAve[c] != a || this.cellStr[c] != s)) {
+				c++;
+			}
+
+			if(c == cells) {
+				this.cellAve[c] = a;
+				this.cellStr[c] = s;
+				this.cellChance[c] = 0;
+				cells++;
+			}
+
+			this.cellChance[c] += 1.0 / moves;
+		}
+
+		return cells;
+	}
+
+	/**
+	 * Chooses the cell to meet an opponent on, the likeliest one with ties going to the newest move, call after update
+	 * A likely cell that cannot be reached this turn is still better to head for than an unlikely one that can
+	 * @param slot - the row of the opponent
+	 * @param cell - filled with the avenue and street of the cell
+	 */
+	public void intercept(int slot, int [] cell) {
+		int cells = this.predict(slot);
+		int best = 0;
+
+		for(int c = 1; c < cells; c++) {
+			if(this.cellChance[c] > this.cellChance[best]) {
+				best = c;
+			}
+		}
+
+		cell[0] = this.cellAve[best];
+		cell[1] = this.cellStr[best];
+	}
+
+	/**
+	 * Gets the avenue of a predicted cell
+	 * @param c - the index of the cell, below the number returned by predict
+	 * @return the avenue
+	 */
+	public int getCellAvenue(int c) {
+		return this.cellAve[c];
+	}
+
+	/**
+	 * Gets the street of a predicted cell
+	 * @param c - the index of the cell, below the number returned by predict
+	 * @return the street
+	 */
+	public int getCellStreet(int c) {
+		return this.cellStr[c];
+	}
+
+	/**
+	 * Gets the chance of a predicted cell
+	 * @param c - the index of the cell, below the number returned by predict
+	 * @return the share of remembered moves that end on the cell
+	 */
+	public double getCellChance(int c) {
+		return this.cellChance[c];
+	}
+}
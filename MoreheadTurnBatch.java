@@ -0,0 +1,72 @@
+package summative;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Takes the turns of every robot in a round at once, so that the arena builds its data a single time
+ * Every MoreheadBatchable robot reads the same MoreheadArenaSnapshot instead of its own copy of the data, and only
+ * measures the distances from itself. Other robots still get an OppData array, one after another
+ * With a pool the batchable robots decide at the same time, each one only writes to its own strategy
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadTurnBatch {
+	private ForkJoinPool pool;
+
+	/**
+	 * Constructor method
+	 * @param pool - the pool robots take their turns on, null to take them one after another on the calling thread
+	 */
+	public MoreheadTurnBatch(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Takes the turn of every live robot
+	 * @param robots - the robots, indexed by ID
+	 * @param energy - the energy of every robot
+	 * @param alive - whether each robot takes a turn
+	 * @param snapshot - the snapshot of the round
+	 * @param requests - filled with the request of every live robot, left as it is for the others
+	 */
+	public void takeTurns(FighterRobot [] robots, int [] energy, boolean [] alive, MoreheadArenaSnapshot snapshot, TurnRequest [] requests) {
+		// Other robots get their own array in case they change it, and may not be safe to run on other threads
+		for(int i = 0; i < robots.length; i++) {
+			if(alive[i] && !(robots[i] instanceof MoreheadBatchable)) {
+				requests[i] = robots[i].takeTurn(energy[i], snapshot.toOppData());
+			}
+		}
+
+		if(this.pool == null) {
+			for(int i = 0; i < robots.length; i++) {
+				this.takeShared(robots, energy, alive, snapshot, requests, i);
+			}
+		} else {
+			try {
+				this.pool.submit(() -> IntStream.range(0, robots.length).parallel().forEach(i -> this.takeShared(robots, energy, alive, snapshot, requests, i))).get();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Turns were interrupted", e);
+			} catch(ExecutionException e) {
+				throw new IllegalStateException("A robot failed to take its turn", e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Takes the turn of one robot on the shared snapshot if it is alive and batchable
+	 * @param robots - the robots, indexed by ID
+	 * @param energy - the energy of every robot
+	 * @param alive - whether each robot takes a turn
+	 * @param snapshot - the snapshot of the round
+	 * @param requests - the request of each robot, only index i is written
+	 * @param i - the ID of the robot
+	 */
+	private void takeShared(FighterRobot [] robots, int [] energy, boolean [] alive, MoreheadArenaSnapshot snapshot, TurnRequest [] requests, int i) {
+		if(alive[i] && robots[i] instanceof MoreheadBatchable) {
+			requests[i] = ((MoreheadBatchable)robots[i]).takeTurn(energy[i], snapshot);
+		}
+	}
+}
@@ -0,0 +1,317 @@
+package summative;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Records how long each takeTurn call takes, how much it allocates and which mode it chose
+ * Turned on with -Dmorehead.stats=true, when it is off every method returns right away
+ * Turn times go into log-linear buckets like HdrHistogram, so percentiles are within 1/8 of the real value
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadTurnStats implements MoreheadTurnStatsMBean {
+	public static final boolean ENABLED = Boolean.getBoolean("morehead.stats");
+
+	// Seconds between dumps of every robot's stats, 0 to never dump
+	private static final long DUMP_SECONDS = Long.getLong("morehead.stats.dumpSeconds", 10);
+
+	// Modes returned by MoreheadStrategy.takeTurn
+	public static final int ATTACK = 0;
+	public static final int HEALTH_LOW = 1;
+	public static final int ENERGY_LOW = 2;
+
+	// Each power of two is split into 8 buckets
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int NUM_BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private static final Map<String, MoreheadTurnStats> ALL_STATS = new ConcurrentHashMap<String, MoreheadTurnStats>();
+	private static final com.sun.management.ThreadMXBean THREADS = findThreadBean();
+
+	private String name;
+	private AtomicLongArray buckets;
+	private LongAdder turns;
+	private LongAdder totalNanos;
+	private LongAccumulator maxNanos;
+	private LongAdder [] modeTurns;
+	private LongAdder allocatedBytes;
+
+	static {
+		// Only start the dump thread if stats are being recorded
+		if(ENABLED && DUMP_SECONDS > 0) {
+			ScheduledExecutorService dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "morehead-stats-dump");
+				thread.setDaemon(true);
+				return thread;
+			});
+			dumper.scheduleAtFixedRate(MoreheadTurnStats::dumpAll, DUMP_SECONDS, DUMP_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Constructor method
+	 * @param name - the name of the robot version, for example "V6"
+	 */
+	private MoreheadTurnStats(String name) {
+		this.name = name;
+		this.buckets = new AtomicLongArray(NUM_BUCKETS);
+		this.turns = new LongAdder();
+		this.totalNanos = new LongAdder();
+		this.maxNanos = new LongAccumulator(Math::max, 0);
+		this.modeTurns = new LongAdder[] {new LongAdder(), new LongAdder(), new LongAdder()};
+		this.allocatedBytes = new LongAdder();
+	}
+
+	/**
+	 * Gets the stats shared by every robot of a version, registering them with JMX the first time
+	 * @param name - the name of the robot version
+	 * @return the stats of that version
+	 */
+	public static MoreheadTurnStats forRobot(String name) {
+		return ALL_STATS.computeIfAbsent(name, key -> {
+			MoreheadTurnStats stats = new MoreheadTurnStats(key);
+
+			if(ENABLED) {
+				stats.register();
+			}
+
+			return stats;
+		});
+	}
+
+	/**
+	 * Gets the current time for the start of a turn
+	 * @return the time in nanoseconds, 0 if stats are off
+	 */
+	public static long startTime() {
+		if(!ENABLED) {
+			return 0;
+		}
+
+		return System.nanoTime();
+	}
+
+	/**
+	 * Gets the bytes this thread has allocated so far
+	 * @return the allocated bytes, 0 if stats are off or the JVM cannot measure it
+	 */
+	public static long startBytes() {
+		if(!ENABLED || THREADS == null) {
+			return 0;
+		}
+
+		return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Records a finished turn
+	 * @param startTime - the value of startTime() at the start of the turn
+	 * @param startBytes - the value of startBytes() at the start of the turn
+	 * @param mode - the mode chosen during the turn
+	 */
+	public void endTurn(long startTime, long startBytes, int mode) {
+		if(!ENABLED) {
+			return;
+		}
+
+		long nanos = System.nanoTime() - startTime;
+
+		this.buckets.incrementAndGet(bucketOf(nanos));
+		this.turns.increment();
+		this.totalNanos.add(nanos);
+		this.maxNanos.accumulate(nanos);
+
+		if(mode >= 0 && mode < this.modeTurns.length) {
+			this.modeTurns[mode].increment();
+		}
+
+		if(THREADS != null) {
+			this.allocatedBytes.add(THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) - startBytes);
+		}
+	}
+
+	/**
+	 * Finds the bucket for a turn time
+	 * @param nanos - the turn time
+	 * @return the bucket index
+	 */
+	private static int bucketOf(long nanos) {
+		if(nanos < SUB_BUCKETS) {
+			return (int)Math.max(nanos, 0);
+		}
+
+		// The highest bit picks the power of two, the next bits pick the bucket inside it
+		int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+		int sub = (int)(nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+		return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * Finds the largest time that goes into a bucket
+	 * @param bucket - the bucket index
+	 * @return the upper bound of the bucket in nanoseconds
+	 */
+	private static long upperBoundOf(int bucket) {
+		if(bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+
+		int magnitude = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long sub = bucket % SUB_BUCKETS;
+
+		return ((SUB_BUCKETS + sub + 1) << (magnitude - SUB_BUCKET_BITS)) - 1;
+	}
+
+	/**
+	 * Finds the turn time at a percentile
+	 * @param percentile - the percentile, from 0 to 100
+	 * @return the turn time in nanoseconds
+	 */
+	public long getPercentileNanos(double percentile) {
+		long total = this.turns.sum();
+
+		if(total == 0) {
+			return 0;
+		}
+
+		long wanted = (long)Math.ceil(total * percentile / 100.0);
+		long seen = 0;
+
+		for(int i = 0; i < NUM_BUCKETS; i++) {
+			seen += this.buckets.get(i);
+
+			if(seen >= wanted) {
+				return Math.min(upperBoundOf(i), this.getMaxNanos());
+			}
+		}
+
+		return this.getMaxNanos();
+	}
+
+	public long getTurns() {
+		return this.turns.sum();
+	}
+
+	public double getMeanNanos() {
+		long total = this.turns.sum();
+		return (total == 0) ? 0 : (double)this.totalNanos.sum() / total;
+	}
+
+	public long getP50Nanos() {
+		return this.getPercentileNanos(50);
+	}
+
+	public long getP99Nanos() {
+		return this.getPercentileNanos(99);
+	}
+
+	public long getP999Nanos() {
+		return this.getPercentileNanos(99.9);
+	}
+
+	public long getMaxNanos() {
+		return this.maxNanos.get();
+	}
+
+	public long getAttackTurns() {
+		return this.modeTurns[ATTACK].sum();
+	}
+
+	public long getHealthLowTurns() {
+		return this.modeTurns[HEALTH_LOW].sum();
+	}
+
+	public long getEnergyLowTurns() {
+		return this.modeTurns[ENERGY_LOW].sum();
+	}
+
+	public double getBytesPerTurn() {
+		long total = this.turns.sum();
+
+		if(THREADS == null) {
+			return -1;
+		}
+
+		return (total == 0) ? 0 : (double)this.allocatedBytes.sum() / total;
+	}
+
+	public void reset() {
+		for(int i = 0; i < NUM_BUCKETS; i++) {
+			this.buckets.set(i, 0);
+		}
+
+		this.turns.reset();
+		this.totalNanos.reset();
+		this.maxNanos.reset();
+		this.allocatedBytes.reset();
+
+		for(int i = 0; i < this.modeTurns.length; i++) {
+			this.modeTurns[i].reset();
+		}
+	}
+
+	/**
+	 * Creates a one line summary of these stats
+	 * @return the summary
+	 */
+	public String toString() {
+		return String.format("%s: turns=%d mean=%.0fns p50=%dns p99=%dns p99.9=%dns max=%dns attack=%d healthLow=%d energyLow=%d bytes/turn=%.1f",
+				this.name, this.getTurns(), this.getMeanNanos(), this.getP50Nanos(), this.getP99Nanos(), this.getP999Nanos(), this.getMaxNanos(),
+				this.getAttackTurns(), this.getHealthLowTurns(), this.getEnergyLowTurns(), this.getBytesPerTurn());
+	}
+
+	/**
+	 * Logs the stats of every robot version
+	 */
+	public static void dumpAll() {
+		for(MoreheadTurnStats stats : ALL_STATS.values()) {
+			// The counters keep changing, so the line is made now rather than on the log thread
+			MoreheadEventLog.log(MoreheadEventLog.INFO, "MoreheadTurnStats", stats.toString());
+		}
+	}
+
+	/**
+	 * Registers these stats with the platform MBean server
+	 */
+	private void register() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			server.registerMBean(this, new ObjectName("summative:type=MoreheadTurnStats,name=" + this.name));
+		} catch(Exception e) {
+			// Stats still work without JMX
+			MoreheadEventLog.log(MoreheadEventLog.WARN, "MoreheadTurnStats", "Could not register turn stats for %s: %s", this.name, e);
+		}
+	}
+
+	/**
+	 * Finds the thread bean that can measure allocations, only HotSpot based JVMs have it
+	 * @return the thread bean, null if allocations cannot be measured
+	 */
+	private static com.sun.management.ThreadMXBean findThreadBean() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+		if(bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean)bean;
+
+			if(sunBean.isThreadAllocatedMemorySupported()) {
+				sunBean.setThreadAllocatedMemoryEnabled(true);
+				return sunBean;
+			}
+		}
+
+		return null;
+	}
+}
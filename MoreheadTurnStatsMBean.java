@@ -0,0 +1,73 @@
+package summative;
+
+/**
+ * JMX view of MoreheadTurnStats, shown in JConsole or VisualVM under summative
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public interface MoreheadTurnStatsMBean {
+	/**
+	 * Gets the number of recorded turns
+	 * @return the number of turns
+	 */
+	long getTurns();
+
+	/**
+	 * Gets the average time of a turn
+	 * @return the mean turn time in nanoseconds
+	 */
+	double getMeanNanos();
+
+	/**
+	 * Gets the median time of a turn
+	 * @return the 50th percentile in nanoseconds
+	 */
+	long getP50Nanos();
+
+	/**
+	 * Gets the 99th percentile time of a turn
+	 * @return the 99th percentile in nanoseconds
+	 */
+	long getP99Nanos();
+
+	/**
+	 * Gets the 99.9th percentile time of a turn
+	 * @return the 99.9th percentile in nanoseconds
+	 */
+	long getP999Nanos();
+
+	/**
+	 * Gets the longest turn
+	 * @return the maximum turn time in nanoseconds
+	 */
+	long getMaxNanos();
+
+	/**
+	 * Gets the number of turns spent in ATTACK mode
+	 * @return the number of ATTACK turns
+	 */
+	long getAttackTurns();
+
+	/**
+	 * Gets the number of turns spent in HEALTH_LOW mode
+	 * @return the number of HEALTH_LOW turns
+	 */
+	long getHealthLowTurns();
+
+	/**
+	 * Gets the number of turns spent in ENERGY_LOW mode
+	 * @return the number of ENERGY_LOW turns
+	 */
+	long getEnergyLowTurns();
+
+	/**
+	 * Gets the average number of bytes allocated by a turn
+	 * @return bytes allocated per turn, -1 if the JVM cannot measure it
+	 */
+	double getBytesPerTurn();
+
+	/**
+	 * Clears every recorded turn
+	 */
+	void reset();
+}
@@ -0,0 +1,204 @@
+package summative;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The scoring weights of V6 for its attack and low energy modes, stored in a properties file
+ * Profiles cannot be changed after they are created, so one profile can be shared by every robot and thread
+ *
+ * File format, every weight is out of 1:
+ * attack.health, attack.distance, attack.advantage, attack.attack, attack.defense, attack.agility
+ * energyLow.health, energyLow.distance, energyLow.advantage, energyLow.attack, energyLow.defense, energyLow.agility
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadWeightProfile {
+	// Order of the weights in each mode
+	public static final int HEALTH = 0;
+	public static final int DISTANCE = 1;
+	public static final int ADVANTAGE = 2;
+	public static final int ATTACK = 3;
+	public static final int DEFENSE = 4;
+	public static final int AGILITY = 5;
+	public static final String [] WEIGHT_NAMES = {"health", "distance", "advantage", "attack", "defense", "agility"};
+
+	// The weights V6 was given by hand
+	public static final MoreheadWeightProfile V6_DEFAULTS = new MoreheadWeightProfile(
+			new double[] {0.2, 0.1, 0, 0.2, 0.3, 0.2},
+			new double[] {0.1, 0.3, 0, 0.1, 0.3, 0.2});
+
+	// Set with -Dmorehead.profile=path to make every V6 read its weights from a file
+	private static final String PROFILE_PATH = System.getProperty("morehead.profile");
+
+	// Every file is only read once
+	private static final Map<Path, MoreheadWeightProfile> LOADED = new ConcurrentHashMap<Path, MoreheadWeightProfile>();
+
+	private double [] attackWeights;
+	private double [] energyLowWeights;
+
+	/**
+	 * Constructor method
+	 * @param attackWeights - the weights for attack mode, in the order of WEIGHT_NAMES
+	 * @param energyLowWeights - the weights for low energy mode, in the order of WEIGHT_NAMES
+	 */
+	public MoreheadWeightProfile(double [] attackWeights, double [] energyLowWeights) {
+		if(attackWeights.length != WEIGHT_NAMES.length || energyLowWeights.length != WEIGHT_NAMES.length) {
+			throw new IllegalArgumentException("Each mode needs " + WEIGHT_NAMES.length + " weights");
+		}
+
+		this.attackWeights = attackWeights.clone();
+		this.energyLowWeights = energyLowWeights.clone();
+	}
+
+	/**
+	 * Gets the profile V6 uses, read from -Dmorehead.profile the first time it is needed
+	 * @return the profile from the file, or the hand picked weights if there is no file or it cannot be read
+	 */
+	public static MoreheadWeightProfile forV6() {
+		if(PROFILE_PATH == null) {
+			return V6_DEFAULTS;
+		}
+
+		try {
+			return load(Paths.get(PROFILE_PATH));
+		} catch(IOException | IllegalArgumentException e) {
+			// Robots still work without the file, it is only reported once
+			MoreheadEventLog.log(MoreheadEventLog.WARN, "MoreheadWeightProfile", "Could not read weight profile %s: %s", PROFILE_PATH, e);
+			LOADED.put(Paths.get(PROFILE_PATH).toAbsolutePath().normalize(), V6_DEFAULTS);
+			return V6_DEFAULTS;
+		}
+	}
+
+	/**
+	 * Reads a profile, a file that was already read is not read again
+	 * @param path - the profile file
+	 * @return the profile
+	 * @throws IOException if the file cannot be read
+	 */
+	public static MoreheadWeightProfile load(Path path) throws IOException {
+		Path key = path.toAbsolutePath().normalize();
+		MoreheadWeightProfile profile = LOADED.get(key);
+
+		if(profile == null) {
+			Properties properties = new Properties();
+
+			try(Reader reader = Files.newBufferedReader(key)) {
+				properties.load(reader);
+			}
+
+			profile = new MoreheadWeightProfile(readMode(properties, "attack", V6_DEFAULTS.attackWeights), readMode(properties, "energyLow", V6_DEFAULTS.energyLowWeights));
+			LOADED.put(key, profile);
+		}
+
+		return profile;
+	}
+
+	/**
+	 * Reads the weights of one mode, missing weights keep their default
+	 * @param properties - the file contents
+	 * @param mode - "attack" or "energyLow"
+	 * @param defaults - the weights used when one is missing
+	 * @return the weights
+	 */
+	private static double [] readMode(Properties properties, String mode, double [] defaults) {
+		double [] weights = defaults.clone();
+
+		for(int i = 0; i < WEIGHT_NAMES.length; i++) {
+			String value = properties.getProperty(mode + "." + WEIGHT_NAMES[i]);
+
+			if(value != null) {
+				weights[i] = Double.parseDouble(value.trim());
+			}
+		}
+
+		return weights;
+	}
+
+	/**
+	 * Writes this profile to a file
+	 * @param path - where the profile is written
+	 * @param comment - written at the top of the file, can be null
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(Path path, String comment) throws IOException {
+		Properties properties = new Properties();
+
+		for(int i = 0; i < WEIGHT_NAMES.length; i++) {
+			properties.setProperty("attack." + WEIGHT_NAMES[i], Double.toString(this.attackWeights[i]));
+			properties.setProperty("energyLow." + WEIGHT_NAMES[i], Double.toString(this.energyLowWeights[i]));
+		}
+
+		try(Writer writer = Files.newBufferedWriter(path)) {
+			properties.store(writer, comment);
+		}
+	}
+
+	/**
+	 * Creates the scorer for attack mode
+	 * @return a new scorer with the attack weights
+	 */
+	public MoreheadWeightedScorer createAttackScorer() {
+		return createScorer(this.attackWeights);
+	}
+
+	/**
+	 * Creates the scorer for low energy mode
+	 * @return a new scorer with the low energy weights
+	 */
+	public MoreheadWeightedScorer createEnergyLowScorer() {
+		return createScorer(this.energyLowWeights);
+	}
+
+	/**
+	 * Creates a scorer from the weights of one mode
+	 * @param weights - the weights, in the order of WEIGHT_NAMES
+	 * @return the scorer
+	 */
+	private static MoreheadWeightedScorer createScorer(double [] weights) {
+		return new MoreheadWeightedScorer(weights[HEALTH], weights[DISTANCE], weights[ADVANTAGE], weights[ATTACK], weights[DEFENSE], weights[AGILITY]);
+	}
+
+	/**
+	 * Gets the weights for attack mode
+	 * @return a copy of the weights, in the order of WEIGHT_NAMES
+	 */
+	public double [] getAttackWeights() {
+		return this.attackWeights.clone();
+	}
+
+	/**
+	 * Gets the weights for low energy mode
+	 * @return a copy of the weights, in the order of WEIGHT_NAMES
+	 */
+	public double [] getEnergyLowWeights() {
+		return this.energyLowWeights.clone();
+	}
+
+	/**
+	 * Creates a one line summary of the weights
+	 * @return the summary
+	 */
+	public String toString() {
+		StringBuilder summary = new StringBuilder("attack");
+
+		for(int i = 0; i < WEIGHT_NAMES.length; i++) {
+			summary.append(String.format(" %s=%.3f", WEIGHT_NAMES[i], this.attackWeights[i]));
+		}
+
+		summary.append(", energyLow");
+
+		for(int i = 0; i < WEIGHT_NAMES.length; i++) {
+			summary.append(String.format(" %s=%.3f", WEIGHT_NAMES[i], this.energyLowWeights[i]));
+		}
+
+		return summary.toString();
+	}
+}
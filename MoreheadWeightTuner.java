@@ -0,0 +1,218 @@
+package summative;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Tunes the scoring weights of V6 by playing headless matches
+ * Each generation mutates the best profile so far, plays every candidate on the same seeds on every core,
+ * and keeps the candidate that wins the most, the step size shrinks when no candidate beats the best
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadWeightTuner {
+	// Weights that are changed, advantage stays as it is since it can be infinite
+	private static final int [] TUNED_WEIGHTS = {MoreheadWeightProfile.HEALTH, MoreheadWeightProfile.DISTANCE, MoreheadWeightProfile.ATTACK, MoreheadWeightProfile.DEFENSE, MoreheadWeightProfile.AGILITY};
+
+	// How much the step size shrinks after a generation without improvement
+	private static final double STEP_SHRINK = 0.7;
+
+	private MoreheadRobotFactory [] opponents;
+	private int numPlayers;
+	private int matchesPerCandidate;
+	private SplittableRandom generator;
+	private ForkJoinPool pool;
+
+	/**
+	 * Constructor method
+	 * @param opponents - the robots candidates play against, used in turn for every seat that is not the candidate
+	 * @param numPlayers - the number of robots in each match
+	 * @param matchesPerCandidate - the number of matches each candidate plays per generation
+	 * @param seed - seed for every match and mutation
+	 * @param parallelism - the number of matches played at the same time
+	 */
+	public MoreheadWeightTuner(MoreheadRobotFactory [] opponents, int numPlayers, int matchesPerCandidate, long seed, int parallelism) {
+		this.opponents = opponents;
+		this.numPlayers = numPlayers;
+		this.matchesPerCandidate = matchesPerCandidate;
+		this.generator = new SplittableRandom(seed);
+		this.pool = new ForkJoinPool(parallelism);
+	}
+
+	/**
+	 * Tunes V6 against V3 to V6 and writes the best profile
+	 * @param args - optional output file, generations, candidates per generation, matches per candidate and seed
+	 * @throws IOException if the profile cannot be written
+	 */
+	public static void main(String [] args) throws IOException {
+		String output = (args.length > 0) ? args[0] : "v6.profile";
+		int generations = (args.length > 1) ? Integer.parseInt(args[1]) : 20;
+		int candidates = (args.length > 2) ? Integer.parseInt(args[2]) : 16;
+		int matches = (args.length > 3) ? Integer.parseInt(args[3]) : 500;
+		long seed = (args.length > 4) ? Long.parseLong(args[4]) : 0;
+
+		MoreheadRobotFactory [] opponents = {
+				MoreheadFighterRobotV3::new,
+				MoreheadFighterRobotV4::new,
+				MoreheadFighterRobotV5::new,
+				(c, a, s, d, id, health) -> new MoreheadFighterRobotV6(c, a, s, d, id, health, MoreheadWeightProfile.V6_DEFAULTS)
+		};
+
+		MoreheadWeightTuner tuner = new MoreheadWeightTuner(opponents, BattleManager.NUM_PLAYERS, matches, seed, Runtime.getRuntime().availableProcessors());
+		MoreheadWeightProfile best = tuner.tune(MoreheadWeightProfile.V6_DEFAULTS, generations, candidates, 0.1);
+		double winRate = tuner.evaluate(new MoreheadWeightProfile[] {best})[0];
+		tuner.shutdown();
+
+		best.save(Paths.get(output), String.format("Win rate %.3f over %d matches", winRate, matches));
+		// Progress lines go through the log, they are printed before the result
+		MoreheadEventLog.flush();
+		System.out.println("Best: " + best);
+		System.out.println("Written to " + output + ", use it with -Dmorehead.profile=" + output);
+	}
+
+	/**
+	 * Searches for better weights, starting from a profile
+	 * @param start - the first profile
+	 * @param generations - the number of generations
+	 * @param candidatesPerGeneration - the number of profiles played each generation, including the best so far
+	 * @param step - the largest change to a weight in the first generation
+	 * @return the best profile found
+	 */
+	public MoreheadWeightProfile tune(MoreheadWeightProfile start, int generations, int candidatesPerGeneration, double step) {
+		MoreheadWeightProfile best = start;
+
+		for(int generation = 0; generation < generations; generation++) {
+			MoreheadWeightProfile [] candidates = new MoreheadWeightProfile[candidatesPerGeneration];
+
+			// The best so far plays again on the new seeds so that it is compared fairly
+			candidates[0] = best;
+
+			for(int i = 1; i < candidates.length; i++) {
+				candidates[i] = this.mutate(best, step);
+			}
+
+			double [] winRates = this.evaluate(candidates);
+			int bestIndex = 0;
+
+			for(int i = 1; i < candidates.length; i++) {
+				if(winRates[i] > winRates[bestIndex]) {
+					bestIndex = i;
+				}
+			}
+
+			if(bestIndex == 0) {
+				step *= STEP_SHRINK;
+			}
+
+			best = candidates[bestIndex];
+			MoreheadEventLog.log(MoreheadEventLog.INFO, "MoreheadWeightTuner", "Generation %d: win rate %.3f (best so far %.3f), step %.3f%n  %s", generation, winRates[bestIndex], winRates[0], step, best);
+		}
+
+		return best;
+	}
+
+	/**
+	 * Plays every profile on the same seeds and seats
+	 * @param profiles - the profiles to play
+	 * @return the fraction of matches each profile won
+	 */
+	public double [] evaluate(MoreheadWeightProfile [] profiles) {
+		int numMatches = profiles.length * this.matchesPerCandidate;
+
+		// Every candidate gets the same seeds so that luck does not decide which one is best
+		long [] seeds = new long[this.matchesPerCandidate];
+
+		for(int k = 0; k < seeds.length; k++) {
+			seeds[k] = this.generator.nextLong();
+		}
+
+		boolean [] won;
+
+		try {
+			won = this.pool.submit(() -> {
+				boolean [] results = new boolean[numMatches];
+
+				IntStream.range(0, numMatches).parallel().forEach(k -> results[k] = this.playMatch(profiles[k / this.matchesPerCandidate], k % this.matchesPerCandidate, seeds[k % this.matchesPerCandidate]));
+
+				return results;
+			}).get();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Tuning was interrupted", e);
+		} catch(ExecutionException e) {
+			throw new IllegalStateException("A match failed", e.getCause());
+		}
+
+		double [] winRates = new double[profiles.length];
+
+		for(int k = 0; k < numMatches; k++) {
+			if(won[k]) {
+				winRates[k / this.matchesPerCandidate]++;
+			}
+		}
+
+		for(int i = 0; i < winRates.length; i++) {
+			winRates[i] /= this.matchesPerCandidate;
+		}
+
+		return winRates;
+	}
+
+	/**
+	 * Plays one match with a single candidate robot
+	 * @param profile - the weights of the candidate
+	 * @param match - the match number, decides the seat of the candidate and of each opponent
+	 * @param seed - the seed of the match
+	 * @return whether the candidate won
+	 */
+	private boolean playMatch(MoreheadWeightProfile profile, int match, long seed) {
+		MoreheadRobotFactory [] factories = new MoreheadRobotFactory[this.numPlayers];
+		int seat = match % this.numPlayers;
+
+		for(int i = 0; i < factories.length; i++) {
+			factories[i] = this.opponents[(match + i) % this.opponents.length];
+		}
+
+		factories[seat] = (c, a, s, d, id, health) -> new MoreheadFighterRobotV6(c, a, s, d, id, health, profile);
+
+		return new MoreheadHeadlessBattleManager(factories, seed).playMatch().getWinnerID() == seat;
+	}
+
+	/**
+	 * Creates a new profile by moving each tuned weight a random amount
+	 * @param profile - the profile to change
+	 * @param step - the largest change to a weight
+	 * @return the new profile, every weight stays between 0 and 1
+	 */
+	private MoreheadWeightProfile mutate(MoreheadWeightProfile profile, double step) {
+		double [] attackWeights = profile.getAttackWeights();
+		double [] energyLowWeights = profile.getEnergyLowWeights();
+
+		for(int i : TUNED_WEIGHTS) {
+			attackWeights[i] = this.clamp(attackWeights[i] + this.generator.nextDouble(-step, step));
+			energyLowWeights[i] = this.clamp(energyLowWeights[i] + this.generator.nextDouble(-step, step));
+		}
+
+		return new MoreheadWeightProfile(attackWeights, energyLowWeights);
+	}
+
+	/**
+	 * Keeps a weight between 0 and 1
+	 * @param weight - the weight
+	 * @return the weight inside the range
+	 */
+	private double clamp(double weight) {
+		return Math.max(0, Math.min(1, weight));
+	}
+
+	/**
+	 * Stops the worker threads
+	 */
+	public void shutdown() {
+		this.pool.shutdown();
+	}
+}
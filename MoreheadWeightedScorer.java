@@ -0,0 +1,125 @@
+package summative;
+
+/**
+ * Scores opponents with a weighted sum of their missing health, closeness, advantage and stats
+ * Each weight is out of 1, a weight of 0 leaves that part out of the score completely
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+public class MoreheadWeightedScorer implements MoreheadTargetScorer {
+	private double healthFactor;
+	private double distanceFactor;
+	private double advantageFactor;
+
+	// Attack, Defense, Agility
+	private double [] statFactors;
+	private boolean usesStats;
+
+	/**
+	 * Constructor method for a health/distance ratio, used by V1 to V3
+	 * @param healthFactor - the weighing factor for the opponents health
+	 * @param distanceFactor - the weighing factor for the opponents distance
+	 */
+	public MoreheadWeightedScorer(double healthFactor, double distanceFactor) {
+		this(healthFactor, distanceFactor, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Constructor method
+	 * @param healthFactor - the weighing factor for the opponents health
+	 * @param distanceFactor - the weighing factor for the opponents distance
+	 * @param advantageFactor - the weighing factor for the advantage against the opponent
+	 * @param attackFactor - the weighing factor for how low the opponents attack is
+	 * @param defenseFactor - the weighing factor for how low the opponents defense is
+	 * @param agilityFactor - the weighing factor for the opponents agility
+	 */
+	public MoreheadWeightedScorer(double healthFactor, double distanceFactor, double advantageFactor, double attackFactor, double defenseFactor, double agilityFactor) {
+		this.healthFactor = healthFactor;
+		this.distanceFactor = distanceFactor;
+		this.advantageFactor = advantageFactor;
+		this.statFactors = new double[] {attackFactor, defenseFactor, agilityFactor};
+		this.usesStats = attackFactor != 0 || defenseFactor != 0 || agilityFactor != 0;
+	}
+
+	/**
+	 * Scores every opponent a single time
+	 * @param opponents - the opponent table, its distances measured from the robot choosing a target
+	 * @param scores - filled with the score of every row
+	 */
+	public void score(MoreheadOpponentTable opponents, double [] scores) {
+		for(int i = 0; i < opponents.size(); i++) {
+			scores[i] = this.scoreRow(opponents, i);
+		}
+	}
+
+	/**
+	 * Scores only the given rows
+	 * @param opponents - the opponent table, its distances measured from the robot choosing a target
+	 * @param rows - the rows to score
+	 * @param count - the number of rows to score
+	 * @param scores - filled with the score of every row that is scored
+	 */
+	public void scoreRows(MoreheadOpponentTable opponents, int [] rows, int count, double [] scores) {
+		for(int j = 0; j < count; j++) {
+			scores[rows[j]] = this.scoreRow(opponents, rows[j]);
+		}
+	}
+
+	/**
+	 * Scores one opponent, reading the columns of the opponent table
+	 * @param opponents - the opponent table, its distances measured from the robot choosing a target
+	 * @param i - the row of the opponent
+	 * @return the score
+	 */
+	private double scoreRow(MoreheadOpponentTable opponents, int i) {
+		// Distance
+		double distance = opponents.getDistances()[i];
+		distance = 100 - ((distance / 30.0) * 100);
+
+		double score = (this.healthFactor * (100 - opponents.getHealths()[i])) + (this.distanceFactor * distance);
+
+		// Advantage can be infinite and 0 times infinity is NaN, so it is only added when it is used
+		if(this.advantageFactor != 0) {
+			score += this.advantageFactor * opponents.getAdvantage(i);
+		}
+
+		if(this.usesStats) {
+			double [] stat_factors = this.statFactors;
+			score += 100 * (stat_factors[0] * ((6 - opponents.getAttacks()[i]) / 6.0) + stat_factors[1] * ((6 - opponents.getDefenses()[i]) / 6.0) + stat_factors[2] * ((opponents.getAgilities()[i]) / 6.0));
+		}
+
+		return score;
+	}
+
+	/**
+	 * Gets the weighing factor for the opponents health
+	 * @return the health factor
+	 */
+	public double getHealthFactor() {
+		return this.healthFactor;
+	}
+
+	/**
+	 * Gets the weighing factor for the opponents distance
+	 * @return the distance factor
+	 */
+	public double getDistanceFactor() {
+		return this.distanceFactor;
+	}
+
+	/**
+	 * Gets the weighing factor for the advantage against the opponent
+	 * @return the advantage factor
+	 */
+	public double getAdvantageFactor() {
+		return this.advantageFactor;
+	}
+
+	/**
+	 * Gets the weighing factors for the opponents stats
+	 * @return a copy of the attack, defense and agility factors
+	 */
+	public double [] getStatFactors() {
+		return this.statFactors.clone();
+	}
+}
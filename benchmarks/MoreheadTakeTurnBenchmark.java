@@ -0,0 +1,151 @@
+package summative;
+
+import becker.robots.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for how long a single takeTurn decision takes in V2 to V6
+ * Kept out of the main folder so the arena does not need JMH on its classpath
+ * Compiled and run with the commands in the README, the JMH gc profiler also gives the bytes allocated per turn
+ * @author Siodhachan Morehead
+ * @version June 14, 2024
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoreheadTakeTurnBenchmark {
+	// Number of different snapshots cycled through so the robot does not see the same arena every turn
+	private static final int NUM_SNAPSHOTS = 64;
+
+	@Param({"V2", "V3", "V4", "V5", "V6"})
+	public String version;
+
+	@Param({"4", "16", "64", "256"})
+	public int numPlayers;
+
+	private FighterRobot robot;
+	private OppData [][] snapshots;
+	private int [] energies;
+	private int turn;
+
+	/**
+	 * Creates the robot and the arena snapshots it is given
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		City.showFrame(false);
+		City city = new City();
+
+		int a = BattleManager.WIDTH / 2;
+		int s = BattleManager.HEIGHT / 2;
+		this.robot = createRobot(this.version, city, a, s);
+
+		// Same random choices on every run
+		if(this.robot instanceof MoreheadSeedable) {
+			((MoreheadSeedable)this.robot).setRandom(new SplittableRandom(7));
+		}
+
+		SplittableRandom generator = new SplittableRandom(42);
+		this.snapshots = new OppData[NUM_SNAPSHOTS][];
+		this.energies = new int[NUM_SNAPSHOTS];
+
+		// Opponents wander a little between snapshots and slowly lose health like in a real match
+		int [] avenues = new int[this.numPlayers];
+		int [] streets = new int[this.numPlayers];
+		int [] healths = new int[this.numPlayers];
+
+		for(int i = 0; i < this.numPlayers; i++) {
+			avenues[i] = generator.nextInt(BattleManager.WIDTH);
+			streets[i] = generator.nextInt(BattleManager.HEIGHT);
+			healths[i] = 100;
+		}
+
+		for(int t = 0; t < NUM_SNAPSHOTS; t++) {
+			OppData [] data = new OppData[this.numPlayers];
+
+			for(int i = 0; i < this.numPlayers; i++) {
+				// This robot stays still since the benchmark never calls goToLocation
+				if(i == 0) {
+					data[i] = new OppData(i, a, s, 100);
+					continue;
+				}
+
+				avenues[i] = clamp(avenues[i] + generator.nextInt(-2, 3), BattleManager.WIDTH);
+				streets[i] = clamp(streets[i] + generator.nextInt(-2, 3), BattleManager.HEIGHT);
+
+				if(healths[i] > 0 && generator.nextInt(4) == 0) {
+					healths[i] = Math.max(0, healths[i] - 5);
+				}
+
+				data[i] = new OppData(i, avenues[i], streets[i], healths[i]);
+			}
+
+			this.snapshots[t] = data;
+			this.energies[t] = 10 + generator.nextInt(91);
+		}
+	}
+
+	/**
+	 * Measures a single turn decision
+	 * @return the robot's request, returned so that it is not optimized away
+	 */
+	@Benchmark
+	public TurnRequest takeTurn() {
+		int t = this.turn++ & (NUM_SNAPSHOTS - 1);
+
+		// The arrays are made in setup and handed out in turn, copying one here would add its allocation to the robot's
+		// Robots never change the array or keep it past the turn, so seeing the same one again is the same as a fresh copy
+		return this.robot.takeTurn(this.energies[t], this.snapshots[t]);
+	}
+
+	/**
+	 * Creates the robot being measured
+	 * @param version - the robot version
+	 * @param city - the City of the robot
+	 * @param a - the avenue of the robot
+	 * @param s - the street of the robot
+	 * @return the robot
+	 */
+	private static FighterRobot createRobot(String version, City city, int a, int s) {
+		switch(version) {
+		case "V2":
+			return new MoreheadFighterRobotV2(city, a, s, Direction.NORTH, 0, 100);
+		case "V3":
+			return new MoreheadFighterRobotV3(city, a, s, Direction.NORTH, 0, 100);
+		case "V4":
+			return new MoreheadFighterRobotV4(city, a, s, Direction.NORTH, 0, 100);
+		case "V5":
+			return new MoreheadFighterRobotV5(city, a, s, Direction.NORTH, 0, 100);
+		default:
+			return new MoreheadFighterRobotV6(city, a, s, Direction.NORTH, 0, 100);
+		}
+	}
+
+	/**
+	 * Keeps a coordinate inside the arena
+	 * @param value - the coordinate
+	 * @param size - the size of the arena in that direction
+	 * @return the coordinate, between 0 and size - 1
+	 */
+	private static int clamp(int value, int size) {
+		return Math.max(0, Math.min(size - 1, value));
+	}
+}